@@ -4,6 +4,7 @@ plugins {
     application
     id("com.github.johnrengelman.shadow") version "8.1.1"
     id("org.danilopianini.gradle-java-qa") version "1.82.0"
+    id("me.champeau.jmh") version "0.7.2"
 
     id("org.danilopianini.unibo-oop-gradle-plugin") version "1.1.7"
 }
@@ -105,6 +106,47 @@ tasks.startScripts {
 tasks.startShadowScripts {
     dependsOn(tasks.jar)
 }
+tasks.register<JavaExec>("compileTowers") {
+    group = "application"
+    description = "Compiles towers into their binary image, e.g. -Ptowers=towerNew,tower"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("it.unibo.templetower.controller.TowerCompiler")
+    args = (findProperty("towers") as String? ?: "").split(",").filter { it.isNotBlank() }
+}
+tasks.register<JavaExec>("simulateTower") {
+    group = "application"
+    description = "Simulates games on a tower, e.g. -Ptower=towerNew -Pgames=1000000 -Ppolicy=rusher -Pseed=42"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("it.unibo.templetower.simulation.TowerSimulator")
+    args = listOf("tower" to "towerNew", "games" to "100000", "policy" to "explorer", "seed" to "1")
+        .map { (name, default) -> findProperty(name) as String? ?: default }
+}
+
+jmh {
+    // Reports the bytes allocated per operation next to the timings
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    findProperty("benchmarks")?.let { includes.add(it as String) }
+    jvmArgs.add("-Dtempletower.benchmark.tower=${layout.projectDirectory.dir("towerNew").asFile}")
+}
+// The benchmarks are not shipped, and the code generated by JMH does not follow the project's rules
+tasks.matching { it.name in setOf("checkstyleJmh", "pmdJmh", "spotbugsJmh") }.configureEach {
+    enabled = false
+}
+tasks.register<Copy>("saveBenchmarks") {
+    group = "benchmark"
+    description = "Runs the benchmarks and saves their results as benchmarks/<label>.json, " +
+        "by default labelled with the current commit, e.g. -Plabel=baseline -Pbenchmarks=Spawn"
+    dependsOn(tasks.named("jmh"))
+    val label = providers.gradleProperty("label").orElse(
+        providers.exec { commandLine("git", "rev-parse", "--short", "HEAD") }.standardOutput.asText.map { it.trim() }
+    )
+    from(layout.buildDirectory.file("results/jmh/results.json"))
+    into(layout.projectDirectory.dir("benchmarks"))
+    rename { "${label.get()}.json" }
+}
+
 val main: String by project
 
 application {
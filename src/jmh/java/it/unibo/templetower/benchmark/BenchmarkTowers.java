@@ -0,0 +1,133 @@
+package it.unibo.templetower.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+
+import it.unibo.templetower.model.Enemy;
+import it.unibo.templetower.utils.Pair;
+
+/**
+ * Generates the towers used by the benchmarks, by copying the sample tower and replacing the enemies
+ * of every floor with a given number of synthetic ones.
+ * The sample tower is read from the directory named by the {@value #SOURCE_PROPERTY} system property,
+ * {@value #DEFAULT_SOURCE} in the project directory by default.
+ */
+final class BenchmarkTowers {
+    /** System property naming the tower the benchmark towers are copied from. */
+    static final String SOURCE_PROPERTY = "templetower.benchmark.tower";
+    /** Name of the tower configuration file of a tower directory. */
+    static final String TOWER_CONFIG_FILENAME = "tower.json";
+    private static final String DEFAULT_SOURCE = "towerNew";
+    private static final String ENEMY_FILENAME = "enemy-data.json";
+    private static final int MAX_LEVEL = 20;
+    private static final int MIN_HEALTH = 10;
+    private static final int HEALTH_RANGE = 90;
+    private static final int DAMAGE_RANGE = 50;
+    private static final double FIRE_DAMAGE = 3.0;
+    private static final double FIRE_MULTIPLIER = 0.5;
+
+    private BenchmarkTowers() {
+    }
+
+    /**
+     * Generates a tower.
+     *
+     * @param directory the directory of the new tower, which must not exist
+     * @param enemiesPerFloor the number of enemies written in every floor
+     * @return the path of the tower.json of the new tower
+     * @throws IOException if the tower cannot be written
+     */
+    static Path generate(final Path directory, final int enemiesPerFloor) throws IOException {
+        FileUtils.copyDirectory(new File(System.getProperty(SOURCE_PROPERTY, DEFAULT_SOURCE)), directory.toFile());
+        final String enemies = enemiesJson(enemiesPerFloor);
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.filter(path -> ENEMY_FILENAME.equals(String.valueOf(path.getFileName()))).toList()) {
+                Files.writeString(file, enemies, StandardCharsets.UTF_8);
+            }
+        }
+        return directory.resolve(TOWER_CONFIG_FILENAME);
+    }
+
+    /**
+     * Zips a tower directory, with its tower.json at the root of the archive as expected by the mod import.
+     *
+     * @param directory the tower directory
+     * @param zip the archive to write
+     * @throws IOException if the archive cannot be written
+     */
+    static void zip(final Path directory, final Path zip) throws IOException {
+        try (OutputStream out = Files.newOutputStream(zip);
+            ZipOutputStream zipOut = new ZipOutputStream(out);
+            Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.filter(Files::isRegularFile).toList()) {
+                zipOut.putNextEntry(new ZipEntry(directory.relativize(file).toString().replace(File.separatorChar, '/')));
+                Files.copy(file, zipOut);
+                zipOut.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Creates synthetic enemies with the same levels, health and attacks as the generated towers.
+     *
+     * @param count the number of enemies
+     * @return the enemies
+     */
+    static List<Enemy> enemies(final int count) {
+        final List<Enemy> enemies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            enemies.add(new Enemy("enemy" + i, (double) health(i), level(i),
+                List.of(new Pair<>("physical", (double) damage(i)), new Pair<>("fire", FIRE_DAMAGE)),
+                Map.of("fire", FIRE_MULTIPLIER), "sprites/rat.png"));
+        }
+        return enemies;
+    }
+
+    /**
+     * Deletes a directory created by a benchmark, ignoring failures.
+     *
+     * @param directory the directory
+     */
+    static void delete(final Path directory) {
+        FileUtils.deleteQuietly(directory.toFile());
+    }
+
+    private static String enemiesJson(final int count) {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(String.format(Locale.ROOT, "{\"name\":\"enemy%d\",\"health\":%d,\"level\":%d,"
+                + "\"attacks\":[{\"attackId\":\"physical\",\"damage\":%d},{\"attackId\":\"fire\",\"damage\":%s}],"
+                + "\"damageMultipliers\":[{\"attackId\":\"fire\",\"multiplier\":%s}],\"spritePath\":\"sprites/rat.png\"}",
+                i, health(i), level(i), damage(i), FIRE_DAMAGE, FIRE_MULTIPLIER));
+        }
+        return json.append(']').toString();
+    }
+
+    private static int health(final int i) {
+        return MIN_HEALTH + i % HEALTH_RANGE;
+    }
+
+    private static int level(final int i) {
+        return 1 + i % MAX_LEVEL;
+    }
+
+    private static int damage(final int i) {
+        return i % DAMAGE_RANGE;
+    }
+}
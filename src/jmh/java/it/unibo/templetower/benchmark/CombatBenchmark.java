@@ -0,0 +1,117 @@
+package it.unibo.templetower.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.templetower.model.CombatBatch;
+import it.unibo.templetower.model.CombatResolver;
+import it.unibo.templetower.model.Enemy;
+import it.unibo.templetower.model.EnemyRoom;
+import it.unibo.templetower.model.Player;
+import it.unibo.templetower.model.PlayerImpl;
+import it.unibo.templetower.model.Room;
+
+/**
+ * Measures a complete fight between a new player and a new enemy room, exchanging blows as the combat view does,
+ * enemy first, until one of them dies, the same fight resolved in closed form, and a single exchange of blows
+ * between long lived ones.
+ * The gc profiler should report no allocation for {@link #exchange()}: long simulations must not be slowed
+ * down by the garbage collector.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatBenchmark {
+    private static final int ATTACK_ENEMY = 1;
+    private static final int ATTACK_PLAYER = 0;
+    private static final int MAX_TURNS = 1_000;
+    private static final double PLAYER_LIFE = 100;
+    private static final String ROOM_NAME = "combat_view";
+
+    /** Index of the synthetic enemy fought, whose health and damage grow with it. */
+    @Param({"1", "49", "89"})
+    private int enemyIndex;
+
+    private Enemy enemy;
+    private final CombatResolver resolver = new CombatResolver(MAX_TURNS);
+    private final CombatBatch batch = new CombatBatch(1);
+    private Player exchangePlayer;
+    private EnemyRoom exchangeEnemy;
+    private Room exchangeRoom;
+
+    /**
+     * Picks the enemy, and creates the player and the room of the exchanges.
+     * The enemy of the exchanges cannot die, so that the room never has to be replaced.
+     */
+    @Setup
+    public void setUp() {
+        final List<Enemy> enemies = BenchmarkTowers.enemies(enemyIndex + 1);
+        enemy = enemies.get(enemyIndex);
+        final Enemy immortal = new Enemy(enemy.name(), Double.MAX_VALUE, enemy.level(),
+            enemy.attacks(), enemy.damageMultipliers(), enemy.spritePath());
+        exchangePlayer = new PlayerImpl(PlayerImpl.STARTING_WEAPON, Optional.empty());
+        exchangeEnemy = new EnemyRoom(immortal);
+        exchangeRoom = new Room(exchangeEnemy, ROOM_NAME, 1);
+        exchangeRoom.enter(exchangePlayer);
+    }
+
+    /**
+     * @return the life the player is left with
+     */
+    @Benchmark
+    public double fight() {
+        final Player player = new PlayerImpl(PlayerImpl.STARTING_WEAPON, Optional.empty());
+        final EnemyRoom enemyRoom = new EnemyRoom(enemy);
+        final Room room = new Room(enemyRoom, ROOM_NAME, 1);
+        room.enter(player);
+        for (int turn = 0; turn < MAX_TURNS; turn++) {
+            // The enemy strikes first, and the outcome is decided after the player's answer
+            room.interactWithRoom(player, ATTACK_PLAYER);
+            room.interactWithRoom(player, ATTACK_ENEMY);
+            if (enemyRoom.getLifePoints() <= 0 || player.getLife() <= 0) {
+                break;
+            }
+        }
+        return player.getLife();
+    }
+
+    /**
+     * @return the life the player is left with
+     */
+    @Benchmark
+    public double resolve() {
+        batch.clear();
+        batch.add(PLAYER_LIFE, PlayerImpl.STARTING_WEAPON, enemy, 1.0);
+        resolver.resolve(batch);
+        return batch.remainingPlayerLife(0);
+    }
+
+    /**
+     * @return the life the player is left with
+     */
+    @Benchmark
+    public double exchange() {
+        exchangeRoom.interactWithRoom(exchangePlayer, ATTACK_PLAYER);
+        exchangeRoom.interactWithRoom(exchangePlayer, ATTACK_ENEMY);
+        if (exchangePlayer.getLife() <= 0) {
+            exchangePlayer.resetLife();
+        }
+        return exchangePlayer.getLife() + exchangeEnemy.getLifePoints();
+    }
+}
@@ -0,0 +1,71 @@
+package it.unibo.templetower.benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.templetower.model.Enemy;
+import it.unibo.templetower.model.EnemyLevelIndex;
+import it.unibo.templetower.utils.EnemyGenerator;
+
+/**
+ * Measures {@link EnemyGenerator} picking enemies by budget, from an index built once per floor
+ * and from a plain list indexed on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyPickBenchmark {
+    private static final long SEED = 42;
+
+    @Param({"10", "10000"})
+    private int enemies;
+
+    @Param({"5", "20"})
+    private int budget;
+
+    private List<Enemy> list;
+    private EnemyLevelIndex index;
+    private SplittableRandom random;
+
+    /**
+     * Creates the enemies.
+     */
+    @Setup
+    public void setUp() {
+        list = BenchmarkTowers.enemies(enemies);
+        index = new EnemyLevelIndex(list);
+        random = new SplittableRandom(SEED);
+    }
+
+    /**
+     * @return the picked enemy
+     */
+    @Benchmark
+    public Enemy pickFromIndex() {
+        return EnemyGenerator.pickEnemyByBudget(index, budget, random);
+    }
+
+    /**
+     * @return the picked enemy
+     */
+    @Benchmark
+    public Enemy pickFromList() {
+        return EnemyGenerator.pickEnemyByBudget(list, budget, random);
+    }
+}
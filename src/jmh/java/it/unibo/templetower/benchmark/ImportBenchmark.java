@@ -0,0 +1,89 @@
+package it.unibo.templetower.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.templetower.model.ModdingMenuModel;
+
+/**
+ * Measures {@link ModdingMenuModel#importZip(File)} of a zipped tower: extraction, validation and indexing.
+ * The imported tower is deleted after every invocation, outside of the measured time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class ImportBenchmark {
+    private static final String TOWER_NAME = "imported";
+
+    @Param({"5", "5000"})
+    private int enemiesPerFloor;
+
+    private Path directory;
+    private File zip;
+    private ModdingMenuModel model;
+
+    /**
+     * Generates and zips the tower, and creates an empty mods directory.
+     *
+     * @throws IOException if the tower cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("templetower-import");
+        final Path tower = BenchmarkTowers.generate(directory.resolve("source"), enemiesPerFloor).getParent();
+        final Path archive = directory.resolve(TOWER_NAME + ".zip");
+        BenchmarkTowers.zip(tower, archive);
+        zip = archive.toFile();
+        model = new ModdingMenuModel(Files.createDirectories(directory.resolve("mods")).toString());
+    }
+
+    /**
+     * Removes the imported tower, so that the next import does not find it already installed.
+     *
+     * @throws IOException if the tower cannot be deleted
+     */
+    @TearDown(Level.Invocation)
+    public void removeImported() throws IOException {
+        model.deleteTower(TOWER_NAME);
+    }
+
+    /**
+     * Deletes the tower, the archive and the mods directory.
+     */
+    @TearDown
+    public void tearDown() {
+        BenchmarkTowers.delete(directory);
+    }
+
+    /**
+     * @return whether the import succeeded
+     */
+    @Benchmark
+    public boolean importZip() {
+        final boolean imported = model.importZip(zip);
+        if (!imported) {
+            throw new IllegalStateException("Import of " + zip + " failed");
+        }
+        return imported;
+    }
+}
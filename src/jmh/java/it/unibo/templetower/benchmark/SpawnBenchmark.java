@@ -0,0 +1,88 @@
+package it.unibo.templetower.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.templetower.controller.FloorLoadingMode;
+import it.unibo.templetower.controller.GameDataManager;
+import it.unibo.templetower.model.Floor;
+import it.unibo.templetower.model.SpawnManager;
+import it.unibo.templetower.utils.RandomStreams;
+
+/**
+ * Measures {@link SpawnManager#spawnFloor(int)} on an eagerly loaded tower.
+ * The manager is built once per iteration and every invocation restarts it with a new run seed, so that
+ * the floors vary as they do between games and the boss floor is never reached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnBenchmark {
+    @Param({"5", "5000"})
+    private int enemiesPerFloor;
+
+    @Param({"1", "10"})
+    private int level;
+
+    private Path directory;
+    private GameDataManager manager;
+    private SpawnManager spawnManager;
+    private long seed;
+
+    /**
+     * Generates and loads the tower.
+     *
+     * @throws IOException if the tower cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("templetower-spawn");
+        final Path tower = BenchmarkTowers.generate(directory.resolve("tower"), enemiesPerFloor);
+        manager = GameDataManager.getInstance();
+        manager.loadGameDataFromTower(tower.toString(), FloorLoadingMode.PARALLEL);
+    }
+
+    /**
+     * Builds the spawn manager of the iteration.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        spawnManager = new SpawnManager(manager.getTower());
+    }
+
+    /**
+     * Deletes the tower.
+     */
+    @TearDown
+    public void tearDown() {
+        BenchmarkTowers.delete(directory);
+    }
+
+    /**
+     * @return the spawned floor
+     */
+    @Benchmark
+    public Floor spawnFloor() {
+        spawnManager.restart(new RandomStreams(seed++));
+        return spawnManager.spawnFloor(level);
+    }
+}
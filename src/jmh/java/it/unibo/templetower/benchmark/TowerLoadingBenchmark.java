@@ -0,0 +1,96 @@
+package it.unibo.templetower.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.templetower.controller.FloorLoadingMode;
+import it.unibo.templetower.controller.GameDataManager;
+import it.unibo.templetower.model.Tower;
+
+/**
+ * Measures {@link GameDataManager#loadGameDataFromTower(String, FloorLoadingMode)} on a cold tower,
+ * either from its JSON files or from its compiled image.
+ * The manager keeps the snapshots of the last four towers loaded, so the benchmark cycles through
+ * more copies of the tower than that: every load misses the snapshot cache without touching the files,
+ * which would also invalidate the compiled image.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TowerLoadingBenchmark {
+    private static final int COPIES = 5;
+
+    /** Enemies per floor: the sample tower has a handful, the large one stresses parsing. */
+    @Param({"5", "5000"})
+    private int enemiesPerFloor;
+
+    /** Whether the compiled image is read instead of the JSON files. */
+    @Param({"false", "true"})
+    private boolean compiled;
+
+    @Param({"SEQUENTIAL", "PARALLEL"})
+    private FloorLoadingMode mode;
+
+    private final GameDataManager manager = GameDataManager.getInstance();
+    private final List<String> towers = new ArrayList<>();
+    private Path directory;
+    private int next;
+
+    /**
+     * Generates the copies of the tower and, when needed, their compiled images.
+     *
+     * @throws IOException if the towers cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("templetower-loading");
+        for (int i = 0; i < COPIES; i++) {
+            final Path tower = BenchmarkTowers.generate(directory.resolve("tower" + i), enemiesPerFloor);
+            if (compiled) {
+                manager.compileTower(tower.toString());
+            }
+            towers.add(tower.toString());
+        }
+        manager.setCompiledTowersEnabled(compiled);
+    }
+
+    /**
+     * Deletes the towers.
+     */
+    @TearDown
+    public void tearDown() {
+        manager.setCompiledTowersEnabled(true);
+        BenchmarkTowers.delete(directory);
+    }
+
+    /**
+     * @return the loaded tower
+     */
+    @Benchmark
+    public Tower load() {
+        final String tower = towers.get(next);
+        next = (next + 1) % COPIES;
+        manager.loadGameDataFromTower(tower, mode);
+        return manager.getTower();
+    }
+}
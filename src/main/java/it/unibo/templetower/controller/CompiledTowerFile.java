@@ -0,0 +1,470 @@
+package it.unibo.templetower.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unibo.templetower.model.Enemy;
+import it.unibo.templetower.model.FloorContents;
+import it.unibo.templetower.model.FloorData;
+import it.unibo.templetower.model.RoomWeights;
+import it.unibo.templetower.model.Tower;
+import it.unibo.templetower.model.Weapon;
+import it.unibo.templetower.utils.FileStamp;
+import it.unibo.templetower.utils.Pair;
+
+/**
+ * Reader and writer of precompiled towers, a compact binary image of a tower and of all its floors,
+ * enemies and weapons that is read through a memory-mapped file instead of parsing JSON.
+ *
+ * <p>The file starts with a fixed-size header holding a magic number, the format version, the offset
+ * and element count of every section and the tower's own fields. The sections are:
+ * <ul>
+ *   <li>a string table: an index of {@code count + 1} offsets followed by the UTF-8 bytes of
+ *   every distinct string, so that repeated values such as attack ids and sprites are stored once;</li>
+ *   <li>fixed-width records for floors, enemies, weapons, enemy attacks, damage multipliers and
+ *   attack sprites, referring to strings by index and to their children by start and count;</li>
+ *   <li>the modification time, size and content hash of every source JSON file, used to detect stale files.</li>
+ * </ul>
+ * Paths are stored relative to the tower directory, so that a compiled tower stays valid
+ * when its directory is moved.
+ */
+final class CompiledTowerFile {
+    /** Name of the compiled file, stored next to tower.json. */
+    static final String FILENAME = "tower.bin";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledTowerFile.class);
+    private static final int MAGIC = 0x5454_5752;
+    private static final int FORMAT_VERSION = 4;
+
+    private static final int STRINGS = 0;
+    private static final int FLOORS = 1;
+    private static final int ENEMIES = 2;
+    private static final int WEAPONS = 3;
+    private static final int ATTACKS = 4;
+    private static final int MULTIPLIERS = 5;
+    private static final int ATTACK_SPRITES = 6;
+    private static final int SOURCES = 7;
+    private static final int SECTION_COUNT = 8;
+    private static final int SECTION_ENTRY_SIZE = Integer.BYTES * 2;
+    private static final int SECTIONS_START = Integer.BYTES * 2;
+    private static final int HEADER_SIZE = SECTIONS_START + SECTION_COUNT * SECTION_ENTRY_SIZE + Integer.BYTES * 3;
+
+    private static final int FLOOR_SIZE = Integer.BYTES * 10 + Double.BYTES * 5;
+    private static final int ENEMY_SIZE = Integer.BYTES * 7 + Double.BYTES;
+    private static final int WEAPON_SIZE = Integer.BYTES * 4 + Double.BYTES;
+    private static final int PAIR_SIZE = Integer.BYTES + Double.BYTES;
+    private static final int ATTACK_SPRITE_SIZE = Integer.BYTES * 2;
+    private static final int SOURCE_SIZE = Integer.BYTES + Long.BYTES * 3;
+    private static final int HASH_BUFFER_SIZE = 8192;
+    private static final long NO_CONTENT = -1;
+
+    private CompiledTowerFile() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Writes the compiled image of a tower. The file is replaced atomically.
+     *
+     * @param file the file to write
+     * @param tower the loaded tower
+     * @param sources the stamps of the JSON files the tower was read from
+     * @throws IOException if the file cannot be written
+     */
+    static void write(final Path file, final Tower tower, final List<FileStamp> sources) throws IOException {
+        final Path towerDir = towerDir(file);
+        final String dirPrefix = towerDir.toFile().getAbsolutePath() + File.separator;
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        final Section floors = new Section();
+        final Section enemies = new Section();
+        final Section weapons = new Section();
+        final Section attacks = new Section();
+        final Section multipliers = new Section();
+        final Section attackSprites = new Section();
+        final Section stamps = new Section();
+
+        for (final FloorData floor : tower.floors()) {
+            final List<Enemy> floorEnemies = floor.enemies().orElse(List.of());
+            final List<Weapon> floorWeapons = floor.weapons().orElse(List.of());
+            floors.out.writeInt(intern(strings, floor.floorName()));
+            floors.out.writeInt(intern(strings, relativize(floor.spritePath(), dirPrefix)));
+            floors.out.writeInt(floor.spawningRange().getX());
+            floors.out.writeInt(floor.spawningRange().getY());
+            floors.out.writeInt(floor.spawnWeight());
+            floors.out.writeDouble(floor.visibility());
+            floors.out.writeDouble(floor.roomWeights().enemy());
+            floors.out.writeDouble(floor.roomWeights().empty());
+            floors.out.writeDouble(floor.roomWeights().treasure());
+            floors.out.writeDouble(floor.roomWeights().trap());
+            floors.out.writeInt(floor.roomCount());
+            floors.out.writeInt(enemies.count);
+            floors.out.writeInt(floorEnemies.size());
+            floors.out.writeInt(weapons.count);
+            floors.out.writeInt(floorWeapons.size());
+            floors.count++;
+            for (final Enemy enemy : floorEnemies) {
+                enemies.out.writeInt(intern(strings, enemy.name()));
+                enemies.out.writeDouble(enemy.health());
+                enemies.out.writeInt(enemy.level());
+                enemies.out.writeInt(intern(strings, relativize(enemy.spritePath(), dirPrefix)));
+                enemies.out.writeInt(attacks.count);
+                enemies.out.writeInt(enemy.attacks().size());
+                enemies.out.writeInt(multipliers.count);
+                enemies.out.writeInt(enemy.damageMultipliers().size());
+                enemies.count++;
+                for (final Pair<String, Double> attack : enemy.attacks()) {
+                    writePair(attacks, strings, attack.getX(), attack.getY());
+                }
+                for (final Map.Entry<String, Double> multiplier : enemy.damageMultipliers().entrySet()) {
+                    writePair(multipliers, strings, multiplier.getKey(), multiplier.getValue());
+                }
+            }
+            for (final Weapon weapon : floorWeapons) {
+                weapons.out.writeInt(intern(strings, weapon.name()));
+                weapons.out.writeInt(weapon.level());
+                weapons.out.writeInt(intern(strings, relativize(weapon.spritePath(), dirPrefix)));
+                weapons.out.writeInt(intern(strings, weapon.attack().getX()));
+                weapons.out.writeDouble(weapon.attack().getY());
+                weapons.count++;
+            }
+        }
+        for (final Map.Entry<String, String> sprite : tower.attacksSprite().entrySet()) {
+            attackSprites.out.writeInt(intern(strings, sprite.getKey()));
+            attackSprites.out.writeInt(intern(strings, sprite.getValue()));
+            attackSprites.count++;
+        }
+        final Path absoluteDir = towerDir.toAbsolutePath();
+        for (final FileStamp source : sources) {
+            stamps.out.writeInt(intern(strings, relativize(absoluteDir, source.path())));
+            stamps.out.writeLong(source.lastModified());
+            stamps.out.writeLong(source.size());
+            stamps.out.writeLong(contentHash(source.path()));
+            stamps.count++;
+        }
+        final int nameIndex = intern(strings, tower.name());
+        final int descriptionIndex = intern(strings, tower.description());
+        final Section stringTable = stringTable(strings);
+
+        final Section[] sections = {stringTable, floors, enemies, weapons, attacks, multipliers, attackSprites, stamps};
+        final ByteArrayOutputStream image = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(image);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        int offset = HEADER_SIZE;
+        for (final Section section : sections) {
+            out.writeInt(offset);
+            out.writeInt(section.count);
+            offset += section.bytes.size();
+        }
+        out.writeInt(nameIndex);
+        out.writeInt(descriptionIndex);
+        out.writeInt(tower.height());
+        for (final Section section : sections) {
+            section.bytes.writeTo(out);
+        }
+        out.flush();
+
+        final Path tempFile = file.resolveSibling(FILENAME + ".tmp");
+        Files.write(tempFile, image.toByteArray());
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a compiled tower if the file exists, is well formed and none of its source files changed
+     * since it was written: their modification time, size and content must all match.
+     *
+     * @param file the compiled file
+     * @param lazy true to decode the enemies and weapons of each floor only when they are first accessed
+     * @return Optional containing the tower and the stamps of its sources, or empty if the JSON must be loaded
+     */
+    static Optional<Compiled> read(final Path file, final boolean lazy) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                LOGGER.warn("Ignoring compiled tower {} with unknown format", file);
+                return Optional.empty();
+            }
+            final Reader reader = new Reader(buffer, towerDir(file));
+            final Optional<List<FileStamp>> sources = reader.currentSources();
+            return sources.map(stamps -> new Compiled(reader.tower(lazy), stamps));
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            LOGGER.warn("Ignoring unreadable compiled tower {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /*
+     * Copies keep the modification time of the files, so the image also records the content of its sources.
+     * Only compiled images hash their sources: loading the JSON files only stats them.
+     */
+    private static long contentHash(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return NO_CONTENT;
+        }
+        final CRC32C checksum = new CRC32C();
+        final byte[] chunk = new byte[HASH_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read = in.read(chunk);
+            while (read >= 0) {
+                checksum.update(chunk, 0, read);
+                read = in.read(chunk);
+            }
+        } catch (IOException e) {
+            return NO_CONTENT;
+        }
+        return checksum.getValue();
+    }
+
+    private static Path towerDir(final Path file) {
+        final Path parent = file.getParent();
+        return parent == null ? Path.of("") : parent;
+    }
+
+    private static void writePair(final Section section, final Map<String, Integer> strings,
+            final String key, final double value) throws IOException {
+        section.out.writeInt(intern(strings, key));
+        section.out.writeDouble(value);
+        section.count++;
+    }
+
+    private static int intern(final Map<String, Integer> strings, final String value) {
+        return strings.computeIfAbsent(value, key -> strings.size());
+    }
+
+    private static Section stringTable(final Map<String, Integer> strings) throws IOException {
+        final Section table = new Section();
+        final List<byte[]> encoded = new ArrayList<>(strings.size());
+        int offset = 0;
+        for (final String value : strings.keySet()) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            encoded.add(bytes);
+            table.out.writeInt(offset);
+            offset += bytes.length;
+        }
+        table.out.writeInt(offset);
+        for (final byte[] bytes : encoded) {
+            table.out.write(bytes);
+        }
+        table.count = strings.size();
+        return table;
+    }
+
+    /*
+     * Sprite paths are made relative to the tower directory when they are inside it.
+     */
+    private static String relativize(final String path, final String dirPrefix) {
+        return path.startsWith(dirPrefix) ? path.substring(dirPrefix.length()) : path;
+    }
+
+    private static String relativize(final Path absoluteDir, final Path path) {
+        try {
+            return absoluteDir.relativize(path.toAbsolutePath()).toString();
+        } catch (IllegalArgumentException e) {
+            return path.toAbsolutePath().toString();
+        }
+    }
+
+    /**
+     * A tower read from a compiled file, with the stamps of the JSON files it was compiled from.
+     *
+     * @param tower the tower
+     * @param sources the stamps of the source files, resolved against the current tower directory
+     */
+    record Compiled(Tower tower, List<FileStamp> sources) { }
+
+    /*
+     * Buffer where the records of a section are written, along with their number.
+     */
+    private static final class Section {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private int count;
+    }
+
+    /*
+     * Decodes the sections of a mapped file. The fields of a record are read in sequence after moving
+     * to its position, and strings are decoded at most once.
+     */
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private final Path towerDir;
+        private final String[] strings;
+        private final String[] paths;
+        private final int stringIndexStart;
+        private final int stringDataStart;
+
+        Reader(final ByteBuffer buffer, final Path towerDir) {
+            this.buffer = buffer;
+            this.towerDir = towerDir;
+            this.strings = new String[count(STRINGS)];
+            this.paths = new String[strings.length];
+            this.stringIndexStart = offset(STRINGS);
+            this.stringDataStart = stringIndexStart + (strings.length + 1) * Integer.BYTES;
+        }
+
+        Optional<List<FileStamp>> currentSources() {
+            final List<FileStamp> sources = new ArrayList<>(count(SOURCES));
+            for (int i = 0; i < count(SOURCES); i++) {
+                final int position = offset(SOURCES) + i * SOURCE_SIZE;
+                final FileStamp stamp = new FileStamp(
+                    towerDir.resolve(string(buffer.getInt(position))),
+                    buffer.getLong(position + Integer.BYTES),
+                    buffer.getLong(position + Integer.BYTES + Long.BYTES)
+                );
+                final long hash = buffer.getLong(position + Integer.BYTES + Long.BYTES * 2);
+                if (!stamp.isCurrent() || contentHash(stamp.path()) != hash) {
+                    return Optional.empty();
+                }
+                sources.add(stamp);
+            }
+            return Optional.of(sources);
+        }
+
+        Tower tower(final boolean lazy) {
+            final List<FloorData> floors = new ArrayList<>(count(FLOORS));
+            for (int i = 0; i < count(FLOORS); i++) {
+                floors.add(floor(offset(FLOORS) + i * FLOOR_SIZE, lazy));
+            }
+            final Map<String, String> attacksSprite = new HashMap<>();
+            for (int i = 0; i < count(ATTACK_SPRITES); i++) {
+                final int position = offset(ATTACK_SPRITES) + i * ATTACK_SPRITE_SIZE;
+                attacksSprite.put(string(buffer.getInt(position)), string(buffer.getInt(position + Integer.BYTES)));
+            }
+            final int fields = SECTIONS_START + SECTION_COUNT * SECTION_ENTRY_SIZE;
+            return new Tower(
+                string(buffer.getInt(fields)),
+                string(buffer.getInt(fields + Integer.BYTES)),
+                floors,
+                attacksSprite,
+                buffer.getInt(fields + Integer.BYTES * 2)
+            );
+        }
+
+        private synchronized FloorData floor(final int position, final boolean lazy) {
+            buffer.position(position);
+            final String name = string(buffer.getInt());
+            final String sprite = path(buffer.getInt());
+            final int minLevel = buffer.getInt();
+            final int maxLevel = buffer.getInt();
+            final int spawnWeight = buffer.getInt();
+            final double visibility = buffer.getDouble();
+            final RoomWeights roomWeights = new RoomWeights(
+                buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+            final int roomCount = buffer.getInt();
+            final int enemyStart = buffer.getInt();
+            final int enemyCount = buffer.getInt();
+            final int weaponStart = buffer.getInt();
+            final int weaponCount = buffer.getInt();
+            final FloorContents contents = lazy
+                ? FloorContents.lazy(() -> enemies(enemyStart, enemyCount), () -> weapons(weaponStart, weaponCount))
+                : FloorContents.of(enemies(enemyStart, enemyCount), weapons(weaponStart, weaponCount));
+            return new FloorData(name, sprite, contents, new Pair<>(minLevel, maxLevel), spawnWeight, visibility,
+                roomWeights, roomCount);
+        }
+
+        /*
+         * Synchronized because lazy floors can be decoded from background threads, and records are read
+         * by moving the shared buffer position.
+         */
+        private synchronized Optional<List<Enemy>> enemies(final int start, final int count) {
+            final List<Enemy> enemies = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                enemies.add(enemy(offset(ENEMIES) + (start + i) * ENEMY_SIZE));
+            }
+            return enemies.isEmpty() ? Optional.empty() : Optional.of(enemies);
+        }
+
+        private synchronized Optional<List<Weapon>> weapons(final int start, final int count) {
+            final List<Weapon> weapons = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                weapons.add(weapon(offset(WEAPONS) + (start + i) * WEAPON_SIZE));
+            }
+            return weapons.isEmpty() ? Optional.empty() : Optional.of(weapons);
+        }
+
+        private Enemy enemy(final int position) {
+            buffer.position(position);
+            final String name = string(buffer.getInt());
+            final double health = buffer.getDouble();
+            final int level = buffer.getInt();
+            final String sprite = path(buffer.getInt());
+            final int attackStart = buffer.getInt();
+            final int attackCount = buffer.getInt();
+            final int multiplierStart = buffer.getInt();
+            final int multiplierCount = buffer.getInt();
+
+            final List<Pair<String, Double>> attacks = new ArrayList<>(attackCount);
+            for (int i = 0; i < attackCount; i++) {
+                attacks.add(pair(offset(ATTACKS) + (attackStart + i) * PAIR_SIZE));
+            }
+            final Map<String, Double> multipliers = new HashMap<>();
+            for (int i = 0; i < multiplierCount; i++) {
+                final Pair<String, Double> multiplier = pair(offset(MULTIPLIERS) + (multiplierStart + i) * PAIR_SIZE);
+                multipliers.put(multiplier.getX(), multiplier.getY());
+            }
+            return new Enemy(name, health, level, attacks, multipliers, sprite);
+        }
+
+        private Weapon weapon(final int position) {
+            buffer.position(position);
+            final String name = string(buffer.getInt());
+            final int level = buffer.getInt();
+            final String sprite = path(buffer.getInt());
+            return new Weapon(name, level, pair(buffer.position()), sprite);
+        }
+
+        private Pair<String, Double> pair(final int position) {
+            return new Pair<>(string(buffer.getInt(position)), buffer.getDouble(position + Integer.BYTES));
+        }
+
+        private String path(final int index) {
+            if (paths[index] == null) {
+                final String stored = string(index);
+                paths[index] = new File(stored).isAbsolute() ? stored : new File(towerDir.toFile(), stored).getAbsolutePath();
+            }
+            return paths[index];
+        }
+
+        private String string(final int index) {
+            if (strings[index] == null) {
+                final int start = buffer.getInt(stringIndexStart + index * Integer.BYTES);
+                final int end = buffer.getInt(stringIndexStart + (index + 1) * Integer.BYTES);
+                final byte[] bytes = new byte[end - start];
+                buffer.get(stringDataStart + start, bytes);
+                strings[index] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return strings[index];
+        }
+
+        private int offset(final int section) {
+            return buffer.getInt(SECTIONS_START + section * SECTION_ENTRY_SIZE);
+        }
+
+        private int count(final int section) {
+            return buffer.getInt(SECTIONS_START + section * SECTION_ENTRY_SIZE + Integer.BYTES);
+        }
+    }
+}
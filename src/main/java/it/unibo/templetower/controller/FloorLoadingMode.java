@@ -0,0 +1,22 @@
+package it.unibo.templetower.controller;
+
+/**
+ * Strategies used by the {@link GameDataManager} to read the enemy and weapon files of the floors of a tower.
+ */
+public enum FloorLoadingMode {
+    /**
+     * Files are read one after the other on the calling thread, stopping at the first failure.
+     */
+    SEQUENTIAL,
+    /**
+     * Files of all floors are read concurrently on virtual threads; results are joined in the declared
+     * floor order and every failing file is reported in a single error.
+     */
+    PARALLEL,
+    /**
+     * Files of a floor are read only when its enemies or weapons are first accessed, and can be released
+     * afterwards. Only the first floor is read while loading, to validate the tower, so errors in the
+     * other floors surface during the game.
+     */
+    LAZY
+}
@@ -1,6 +1,7 @@
 package it.unibo.templetower.controller;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import it.unibo.templetower.model.Weapon;
 
@@ -23,6 +24,14 @@ public interface GameController {
      */
     void goToNextFloor();
 
+    /**
+     * Sets the hook called in the background with the enemy and weapon sprites of the next floor,
+     * while the next floor is generated ahead of time.
+     *
+     * @param prefetcher the hook loading a sprite from its path
+     */
+    void setSpritePrefetcher(Consumer<String> prefetcher);
+
     /**
      * Changes the player's current room based on the given direction.
      *
@@ -61,6 +70,33 @@ public interface GameController {
      */
     void attackPlayer();
 
+    /**
+     * Queues a combat turn against the enemy of the current room: the enemy strikes, then the player.
+     * The turn is played on the ticks of the logic clock, and the result of each strike is published as a {@link TurnResult}.
+     *
+     * @return false if there is no fight going on or a turn is already queued
+     */
+    boolean requestAttack();
+
+    /**
+     * Advances the logic clock of the combat turns. Views call it on every frame.
+     *
+     * @param now the current time in nanoseconds, from a monotonic clock
+     */
+    void updateTurns(long now);
+
+    /**
+     * Plays every queued combat action at once, without waiting for the logic clock.
+     */
+    void runPendingTurns();
+
+    /**
+     * Gets the bus publishing the changes of the game state to the views.
+     *
+     * @return the event bus
+     */
+    GameEventBus getEventBus();
+
     /**
      * @param diff
      */
@@ -4,8 +4,23 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
-
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unibo.templetower.controller.GameEvent.DamageDealt;
+import it.unibo.templetower.controller.GameEvent.FloorChanged;
+import it.unibo.templetower.controller.GameEvent.PlayerDied;
+import it.unibo.templetower.controller.GameEvent.RoomEntered;
+import it.unibo.templetower.controller.GameEvent.RoomSelected;
+import it.unibo.templetower.model.CombatOutcome;
+import it.unibo.templetower.model.EnemyRoom;
 import it.unibo.templetower.model.Floor;
 import it.unibo.templetower.model.Player;
 import it.unibo.templetower.model.PlayerImpl;
@@ -14,34 +29,63 @@ import it.unibo.templetower.model.SpawnManager;
 import it.unibo.templetower.model.Tower;
 import it.unibo.templetower.model.Weapon;
 import it.unibo.templetower.utils.AssetManager;
-import it.unibo.templetower.utils.Pair;
+import it.unibo.templetower.utils.RandomStreams;
 
 /**
  * Implementation of the GameController interface that manages the game logic.
  * This class handles player movements, combat, and game state.
  */
 public final class GameControllerImpl implements GameController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameControllerImpl.class);
     private List<Room> rooms;
     private int currentFloorIndex;
     private int currentRoomIndex;
     private final Player player;
-    @SuppressWarnings("unused")
-    private Floor currentFloor; //false positive
+    private Floor currentFloor;
     private final AssetManager assetManager;
     private static final int PLAYERDIRECTION = 1;
     private static final int ENEMYDIRECTION = 0;
-    private static final int ROOMS_NUMBER = 7;
-    private static final String DEFAULT_TOWER_PATH = "tower/tower.json";
+    private static final Executor FLOOR_PREFETCHER = task -> Thread.ofVirtual().name("floor-prefetch").start(task);
+    private static final Executor FLOOR_GENERATOR = task -> Thread.ofVirtual().name("floor-pregen").start(task);
+    private static final String DISPLAY_STREAM = "display";
+    private final OptionalLong fixedSeed;
+    private RandomStreams streams;
+    private RandomGenerator displayRandom;
     private SpawnManager spawnManager;
+    private CompletableFuture<Floor> nextFloor;
+    private Consumer<String> spritePrefetcher = path -> { };
     private boolean isBoss;
     private final List<Boolean> enabledButtons;
+    private final List<Boolean> enabledButtonsView;
+    private final TurnScheduler turns;
+    private final GameEventBus events = new GameEventBus();
+    // Last state published, so that events are only published when the state changes
+    private DamageDealt lastDamage;
+    private RoomSelected lastSelection;
+    private boolean playerDead;
 
     /**
      * Constructs a new GameControllerImpl instance.
      * Initializes the game by setting up the floor and creating the player with an
      * initial weapon.
+     * Every run started by {@link #resetGame()} uses a new random seed.
      */
     public GameControllerImpl() {
+        this(OptionalLong.empty());
+    }
+
+    /**
+     * Constructs a new GameControllerImpl instance whose runs are all generated from the given seed,
+     * so that they can be reproduced.
+     *
+     * @param runSeed the seed of every run
+     */
+    public GameControllerImpl(final long runSeed) {
+        this(OptionalLong.of(runSeed));
+    }
+
+    private GameControllerImpl(final OptionalLong fixedSeed) {
+        this.fixedSeed = fixedSeed;
         currentFloorIndex = 1;
         isBoss = false;
         assetManager = new AssetManager();
@@ -50,11 +94,13 @@ public final class GameControllerImpl implements GameController {
         assetManager.addGenericEntityAsset("trap_view", "images/trap.png");
         assetManager.addGenericEntityAsset("stairs_view", "images/stairs.png");
         assetManager.addGenericEntityAsset("empty_view", "images/smoke.gif");
-        final Weapon startWeapon = new Weapon("Simple sword", 1, new Pair<>("phisical", 50.0), DEFAULT_TOWER_PATH);
         // Initialize player
 
-        player = new PlayerImpl(startWeapon, Optional.empty());
+        player = new PlayerImpl(PlayerImpl.STARTING_WEAPON, Optional.empty());
+        turns = new TurnScheduler(player);
+        turns.setListener(this::onTurnPlayed);
         enabledButtons = new ArrayList<>();
+        enabledButtonsView = Collections.unmodifiableList(enabledButtons);
     }
 
     /**
@@ -64,9 +110,8 @@ public final class GameControllerImpl implements GameController {
     public void goToNextFloor() {
         currentFloorIndex += 1;
         currentRoomIndex = 0;
-        rooms.clear();
-        currentFloor = spawnManager.spawnFloor(currentFloorIndex, ROOMS_NUMBER);
-        rooms.addAll(currentFloor.rooms());
+        currentFloor = takeNextFloor();
+        rooms = currentFloor.rooms();
 
         enabledButtons.clear();
 
@@ -74,9 +119,72 @@ public final class GameControllerImpl implements GameController {
             enabledButtons.add(false);
         });
 
+        // The stairs lead straight to the boss, whose room is never entered from the floor view
         if ("boss_view".equals(rooms.get(0).getName())) {
             isBoss = true;
+            turns.startFight(rooms.get(0));
+        } else {
+            turns.stopFight();
+        }
+        pregenerateNextFloor();
+        publishFloor();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSpritePrefetcher(final Consumer<String> prefetcher) {
+        this.spritePrefetcher = prefetcher;
+    }
+
+    /*
+     * Levels are generated from their own random streams, so generating the next floor ahead of time
+     * yields the same floor as generating it when the stairs are taken.
+     */
+    private void pregenerateNextFloor() {
+        if (isBoss) {
+            nextFloor = null;
+            return;
         }
+        final SpawnManager generator = spawnManager;
+        final Consumer<String> prefetcher = spritePrefetcher;
+        final int level = currentFloorIndex + 1;
+        nextFloor = CompletableFuture.supplyAsync(() -> {
+            final Floor floor = generator.spawnFloor(level);
+            floor.rooms().stream()
+                .flatMap(room -> room.getSpritePaths().stream())
+                .distinct()
+                .forEach(path -> prefetchSprite(prefetcher, path));
+            return floor;
+        }, FLOOR_GENERATOR);
+    }
+
+    /*
+     * A sprite that cannot be decoded is only missing from the cache, so it must not fail the floor.
+     */
+    private static void prefetchSprite(final Consumer<String> prefetcher, final String path) {
+        try {
+            prefetcher.accept(path);
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            LOGGER.warn("Sprite {} could not be prefetched: {}", path, e.getMessage());
+        }
+    }
+
+    /*
+     * A failed generation does not count as a passed floor, so the floor can be generated again here.
+     */
+    private Floor takeNextFloor() {
+        final CompletableFuture<Floor> pending = nextFloor;
+        nextFloor = null;
+        if (pending != null) {
+            try {
+                return pending.join();
+            } catch (final CompletionException e) {
+                LOGGER.warn("Floor {} could not be generated in advance: {}", currentFloorIndex, e.getMessage());
+            }
+        }
+        return spawnManager.spawnFloor(currentFloorIndex);
     }
 
     /**
@@ -92,6 +200,7 @@ public final class GameControllerImpl implements GameController {
         } else {
             currentRoomIndex = 0;
         }
+        publishSelection();
     }
 
     /**
@@ -117,6 +226,7 @@ public final class GameControllerImpl implements GameController {
     @Override
     public void increaseLifePlayer(final int xp) {
         player.increaseExperience(xp);
+        publishLife();
     }
 
     /**
@@ -125,6 +235,8 @@ public final class GameControllerImpl implements GameController {
     @Override
     public void attackEnemy() {
         rooms.get(currentRoomIndex).interactWithRoom(player, ENEMYDIRECTION);
+        publishLife();
+        publishDeath();
     }
 
     /**
@@ -133,6 +245,77 @@ public final class GameControllerImpl implements GameController {
     @Override
     public void attackPlayer() {
         rooms.get(currentRoomIndex).interactWithRoom(player, PLAYERDIRECTION);
+        publishLife();
+        publishDeath();
+    }
+
+    @Override
+    public boolean requestAttack() {
+        return turns.requestTurn();
+    }
+
+    @Override
+    public void updateTurns(final long now) {
+        turns.update(now);
+    }
+
+    @Override
+    public void runPendingTurns() {
+        turns.runPending();
+    }
+
+    @Override
+    public GameEventBus getEventBus() {
+        return events;
+    }
+
+    /*
+     * A player killed by the enemy's strike still answers it, and wins if that answer kills the enemy,
+     * so a death in a fight is only reported once the turn decided it.
+     */
+    private void onTurnPlayed(final TurnResult result) {
+        events.publish(result);
+        publishLife();
+        if (result.outcome() == CombatOutcome.ENEMY_WON) {
+            publishDeath();
+        }
+    }
+
+    /*
+     * The player's life is also restored by the scheduler when an enemy is beaten,
+     * so the life published is read from the model rather than from the turn result.
+     */
+    private void publishLife() {
+        final DamageDealt damage = new DamageDealt(player.getLife(), rooms.get(currentRoomIndex).getEnemyLife());
+        if (!damage.equals(lastDamage)) {
+            lastDamage = damage;
+            events.publish(damage);
+        }
+    }
+
+    /*
+     * Only the actions that damage the player report its death: publishing a floor never does, so a new game
+     * cannot end before it starts.
+     */
+    private void publishDeath() {
+        if (player.getLife() <= 0 && !playerDead) {
+            playerDead = true;
+            events.publish(new PlayerDied(currentFloorIndex));
+        }
+    }
+
+    private void publishSelection() {
+        final RoomSelected selection = new RoomSelected(currentRoomIndex, !enabledButtons.get(currentRoomIndex));
+        if (!selection.equals(lastSelection)) {
+            lastSelection = selection;
+            events.publish(selection);
+        }
+    }
+
+    private void publishFloor() {
+        events.publish(new FloorChanged(currentFloorIndex, rooms.size(), isBoss));
+        publishSelection();
+        publishLife();
     }
 
     /**
@@ -165,8 +348,17 @@ public final class GameControllerImpl implements GameController {
         if (!"stairs_view".equals(getActualRoomName())) {
             enabledButtons.set(currentRoomIndex, true);
         }
-        rooms.get(currentRoomIndex).enter(player);
-        return rooms.get(currentRoomIndex).getName();
+        final Room room = rooms.get(currentRoomIndex);
+        room.enter(player);
+        if (room.getBehavior() instanceof EnemyRoom) {
+            turns.startFight(room);
+        } else {
+            turns.stopFight();
+        }
+        events.publish(new RoomEntered(currentRoomIndex, room.getName()));
+        publishSelection();
+        publishLife();
+        return room.getName();
     }
 
     /**
@@ -180,26 +372,32 @@ public final class GameControllerImpl implements GameController {
     }
 
     /**
-     * Gets the total number of rooms.
+     * Gets the number of rooms of the current floor, which is set by its floor type.
      *
-     * @return the number of rooms
+     * @return the number of rooms, or 0 before the game starts
      */
     @Override
     public int getNumberOfRooms() {
-        return ROOMS_NUMBER;
+        return rooms == null ? 0 : rooms.size();
     }
 
     /**
-     * Resets the game state, including floors, rooms, and enemies.
+     * Resets the game state, including floors, rooms, enemies and the life of the player.
      */
     @Override
     public void resetGame() {
         isBoss = false;
+        turns.stopFight();
+        player.resetLife();
+        currentFloorIndex = 1;
         final GameDataManager gameDataManager = GameDataManager.getInstance();
-        gameDataManager.loadGameDataFromTower(gameDataManager.getTowerPath().get());
+        gameDataManager.loadGameDataFromTower(gameDataManager.getTowerPath().get(), FloorLoadingMode.LAZY);
         final Tower towerData = gameDataManager.getTower();
-        spawnManager = new SpawnManager(towerData);
-        final Floor generatedFloor = spawnManager.spawnFloor(1, ROOMS_NUMBER);
+        streams = fixedSeed.isPresent() ? new RandomStreams(fixedSeed.getAsLong()) : RandomStreams.unseeded();
+        LOGGER.info("Starting run with seed {}", streams.seed());
+        displayRandom = streams.stream(DISPLAY_STREAM);
+        spawnManager = new SpawnManager(towerData, FLOOR_PREFETCHER, streams);
+        final Floor generatedFloor = spawnManager.spawnFloor(1);
         currentFloor = generatedFloor;
         rooms = generatedFloor.rooms();
         enabledButtons.clear();
@@ -207,6 +405,24 @@ public final class GameControllerImpl implements GameController {
             enabledButtons.add(false);
         });
         currentRoomIndex = 0;
+        pregenerateNextFloor();
+        lastDamage = null;
+        lastSelection = null;
+        playerDead = false;
+        publishFloor();
+    }
+
+    /**
+     * Gets the seed of the current run, which replays it when passed to {@link #GameControllerImpl(long)}.
+     *
+     * @return the run seed
+     * @throws IllegalStateException if no run was started yet
+     */
+    public long getRunSeed() {
+        if (streams == null) {
+            throw new IllegalStateException("No run was started yet");
+        }
+        return streams.seed();
     }
 
     /**
@@ -215,6 +431,7 @@ public final class GameControllerImpl implements GameController {
     @Override
     public void resetPlayerLife() {
         player.resetLife();
+        publishLife();
     }
 
     /**
@@ -223,6 +440,7 @@ public final class GameControllerImpl implements GameController {
     @Override
     public void playerTakeDamage() {
         player.takeDamage(this.rooms.get(currentRoomIndex).getTrapDamage());
+        publishLife();
     }
 
 
@@ -234,6 +452,7 @@ public final class GameControllerImpl implements GameController {
     @Override
     public int getElementTreasure() {
         this.rooms.get(currentRoomIndex).interactWithRoom(player, ENEMYDIRECTION);
+        publishLife();
         return this.rooms.get(currentRoomIndex).getElementTreasure();
     }
 
@@ -249,7 +468,7 @@ public final class GameControllerImpl implements GameController {
 
     @Override
     public Boolean isRoomToDisplay() {
-        final double roll = ThreadLocalRandom.current().nextDouble(1);
+        final double roll = displayRandom.nextDouble();
         return roll >= this.currentFloor.visibility();
     }
 
@@ -290,6 +509,6 @@ public final class GameControllerImpl implements GameController {
 
     @Override
     public List<Boolean> getEnabledList() {
-        return Collections.unmodifiableList(enabledButtons);
+        return enabledButtonsView;
     }
 }
@@ -1,31 +1,39 @@
 package it.unibo.templetower.controller;
 
+import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.io.File;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
-import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 
+import it.unibo.templetower.model.AttackIndex;
 import it.unibo.templetower.model.Enemy;
+import it.unibo.templetower.model.FloorContents;
 import it.unibo.templetower.model.FloorData;
 import it.unibo.templetower.model.Weapon;
 import it.unibo.templetower.utils.Pair;
 import it.unibo.templetower.model.Tower;
+import it.unibo.templetower.model.TowerSnapshot;
+import it.unibo.templetower.controller.TowerJsonReader.FloorEntry;
+import it.unibo.templetower.utils.FileStamp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,74 +41,25 @@ import org.slf4j.LoggerFactory;
  * Implementation of the Game Data Manager that handles loading and verification of game data from JSON files.
  * This class is responsible for loading and managing floor configurations, including their associated
  * enemies and weapons data from JSON configuration files.
+ * Every load produces a new immutable {@link Tower} snapshot that replaces the previous one of the same path,
+ * so repeated loads do not accumulate data. Snapshots are reused without parsing while the modification
+ * time and size of every file they were read from are unchanged.
+ * Floors, enemies and weapons are read with a streaming parser, see {@link TowerJsonReader}.
  */
 public final class GameDataManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(GameDataManager.class);
     private static final String ATTACK_ID_KEY = "attackId";
     private static final String NAME_KEY = "name";
-    private final List<FloorData> floors;
-    private String floorsPath;
-    private final Gson gson;
+    private final TowerRegistry registry = new TowerRegistry();
     private String baseDir;
     private Tower towerData;
     private String selectedTowerPath;
+    private FloorLoadingMode loadingMode = FloorLoadingMode.PARALLEL;
+    private boolean compiledTowersEnabled = true;
+    private Path compiledTowersDirectory;
 
     private GameDataManager() {
-        this.floors = new ArrayList<>();
-
-        // Create custom deserializer for Enemy class
-        final JsonDeserializer<Enemy> enemyDeserializer = (json, typeOfT, context) -> {
-            final JsonObject jsonObject = json.getAsJsonObject();
-            final String name = jsonObject.get(NAME_KEY).getAsString();
-            final Double health = jsonObject.get("health").getAsDouble();
-            final int level = jsonObject.get("level").getAsInt();
-            final String rawSprite = jsonObject.get("spritePath").getAsString();
-            final String absoluteSprite = new File(baseDir, rawSprite).getAbsolutePath();
-
-            final List<Pair<String, Double>> attacks = new ArrayList<>();
-            final JsonArray attacksArray = jsonObject.getAsJsonArray("attacks");
-            for (final JsonElement attackElement : attacksArray) {
-                final JsonObject attackObj = attackElement.getAsJsonObject();
-                final String attackId = attackObj.get(ATTACK_ID_KEY).getAsString();
-                final Double damage = attackObj.get("damage").getAsDouble();
-                attacks.add(new Pair<>(attackId, damage));
-            }
-
-            final Map<String, Double> multipliersMap = new HashMap<>();
-            final JsonArray multipliersArray = jsonObject.getAsJsonArray("damageMultipliers");
-            if (multipliersArray != null) {
-                for (final JsonElement multiplierElement : multipliersArray) {
-                    final JsonObject multiplierObj = multiplierElement.getAsJsonObject();
-                    final String attackId = multiplierObj.get(ATTACK_ID_KEY).getAsString();
-                    final Double multiplier = multiplierObj.get("multiplier").getAsDouble();
-                    multipliersMap.put(attackId, multiplier);
-                }
-            }
-
-            return new Enemy(name, health, level, attacks, multipliersMap, absoluteSprite);
-        };
-
-        // Custom deserializer for Weapon class
-        final JsonDeserializer<Weapon> weaponDeserializer = (json, typeOfT, context) -> {
-            final JsonObject jsonObject = json.getAsJsonObject();
-            if (!jsonObject.has("attack") || !jsonObject.get("attack").isJsonObject()) {
-                throw new IllegalArgumentException("Weapon JSON missing or invalid 'attack' property");
-            }
-            final String name = jsonObject.get(NAME_KEY).getAsString();
-            final Integer level = jsonObject.get("level").getAsInt();
-            final String rawSprite = jsonObject.get("spritePath").getAsString();
-            final String absoluteSprite = new File(baseDir, rawSprite).getAbsolutePath();
-            final JsonObject attackObj = jsonObject.getAsJsonObject("attack");
-            final String attackId = attackObj.get(ATTACK_ID_KEY).getAsString();
-            final Double damage = attackObj.get("damage").getAsDouble();
-            return new Weapon(name, level, new Pair<>(attackId, damage), absoluteSprite);
-        };
-
-        // Configure Gson with custom deserializers
-        this.gson = new GsonBuilder()
-            .registerTypeAdapter(Enemy.class, enemyDeserializer)
-            .registerTypeAdapter(Weapon.class, weaponDeserializer)
-            .create();
+        // Use getInstance()
     }
 
     private static final class InstanceHolder {
@@ -124,22 +83,156 @@ public final class GameDataManager {
      * @throws IllegalArgumentException if the path is invalid or contains invalid data
      */
     public void loadGameData(final String path) {
-        if (!verifyPath(path)) {
+        if (this.towerData == null) {
             throw new IllegalArgumentException("Invalid game data path");
         }
-        this.floorsPath = path;
-        loadFloors();
+        this.towerData = new Tower(
+            this.towerData.name(),
+            this.towerData.description(),
+            loadVerifiedFloors(path, this.baseDir, this.towerData.height(), this.loadingMode, new ArrayList<>()),
+            this.towerData.attacksSprite(),
+            this.towerData.height()
+        );
+    }
+
+    /*
+     * Loads the floors and validates them in the same pass, so that every file is parsed only once.
+     */
+    private List<FloorData> loadVerifiedFloors(final String path, final String towerDir, final int height,
+            final FloorLoadingMode mode, final List<FileStamp> sources) {
+        final List<String> problems = new ArrayList<>();
+        List<FloorData> floors = List.of();
+        IllegalArgumentException failure = null;
+        try {
+            floors = loadFloors(path, towerDir, height, mode, sources, problems);
+        } catch (final IllegalArgumentException e) {
+            // Floor files that fail to load are reported as invalid data too, keeping every failure
+            problems.add(e.getMessage());
+            failure = e;
+        }
+        if (!problems.isEmpty()) {
+            problems.forEach(problem -> LOGGER.error("Invalid game data at {}: {}", path, problem));
+            final IllegalArgumentException error =
+                new IllegalArgumentException("Invalid game data path: " + String.join("; ", problems), failure);
+            if (failure != null) {
+                for (final Throwable suppressed : failure.getSuppressed()) {
+                    error.addSuppressed(suppressed);
+                }
+            }
+            throw error;
+        }
+        return floors;
     }
 
     /**
      * Loads game data from the tower configuration file.
+     * If the tower was already loaded and none of its files changed since, the cached snapshot is reused.
+     * Otherwise the compiled image next to tower.json is used while it is up to date and valid.
+     * Loading never writes compiled images, except for the towers inside the directory set by
+     * {@link #setCompiledTowersDirectory(Path)}, which are compiled after being eagerly loaded from JSON.
+     * Floors are loaded with the mode set by {@link #setFloorLoadingMode(FloorLoadingMode)}.
      *
      * @param towerJsonPath the path to the tower configuration file
      */
     public void loadGameDataFromTower(final String towerJsonPath) {
+        loadGameDataFromTower(towerJsonPath, this.loadingMode);
+    }
+
+    /**
+     * Loads game data from the tower configuration file, reading the floors with the given mode.
+     * A cached snapshot is reused, unless its floors were loaded lazily and are now requested eagerly:
+     * the tower is then loaded again, and its eager snapshot also serves the following lazy loads.
+     *
+     * @param towerJsonPath the path to the tower configuration file
+     * @param mode how the enemies and weapons of the floors are read
+     */
+    public void loadGameDataFromTower(final String towerJsonPath, final FloorLoadingMode mode) {
         final File towerFile = new File(towerJsonPath);
+        // Set before the cache lookup, as relative floor paths are resolved against the last tower loaded
         this.baseDir = towerFile.getParent();
-        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(towerJsonPath), StandardCharsets.UTF_8)) {
+        final Optional<TowerSnapshot> cached = registry.getCurrent(towerJsonPath)
+            .filter(snapshot -> mode == FloorLoadingMode.LAZY || isEager(snapshot.tower()));
+        if (cached.isPresent()) {
+            this.towerData = cached.get().tower();
+            return;
+        }
+        final Path compiledPath = compiledPath(towerFile);
+        if (this.compiledTowersEnabled) {
+            final Optional<CompiledTowerFile.Compiled> compiled =
+                CompiledTowerFile.read(compiledPath, mode == FloorLoadingMode.LAZY);
+            if (compiled.isPresent() && isValidCompiledTower(compiled.get().tower(), compiledPath)) {
+                this.towerData = registry.publish(towerJsonPath, compiled.get().tower(), compiled.get().sources()).tower();
+                return;
+            }
+        }
+        final List<FileStamp> sources = new ArrayList<>();
+        final Tower tower = loadTowerFromJson(towerFile, mode, sources);
+        this.towerData = registry.publish(towerJsonPath, tower, sources).tower();
+        // Compiling needs every floor, so lazily loaded towers are compiled by the next eager load
+        if (this.compiledTowersEnabled && mode != FloorLoadingMode.LAZY && isInCompiledTowersDirectory(towerFile)) {
+            try {
+                CompiledTowerFile.write(compiledPath, tower, sources);
+            } catch (final IOException e) {
+                LOGGER.warn("Cannot write compiled tower {}: {}", compiledPath, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Loads a tower from its JSON files, ignoring any cached or compiled copy,
+     * and writes its compiled image next to tower.json.
+     *
+     * @param towerJsonPath the path to the tower configuration file
+     * @return the path of the compiled file
+     * @throws IOException if the compiled file cannot be written
+     * @throws IllegalArgumentException if the tower is invalid
+     */
+    public Path compileTower(final String towerJsonPath) throws IOException {
+        final File towerFile = new File(towerJsonPath);
+        final List<FileStamp> sources = new ArrayList<>();
+        final Tower tower = loadTowerFromJson(towerFile, FloorLoadingMode.PARALLEL, sources);
+        final Path compiledPath = compiledPath(towerFile);
+        CompiledTowerFile.write(compiledPath, tower, sources);
+        return compiledPath;
+    }
+
+    /*
+     * Compiled images skip the JSON loader, so they are checked like the floors it loads.
+     * An invalid image is ignored, and loading the JSON files reports what is wrong with them.
+     */
+    private static boolean isValidCompiledTower(final Tower tower, final Path compiledPath) {
+        final List<String> problems = new ArrayList<>();
+        verifyCoverage(tower.floors().stream().map(FloorData::spawningRange).toList(), tower.height(), problems);
+        if (problems.isEmpty()) {
+            verifyFirstFloor(tower.floors().get(0), problems);
+        }
+        if (!problems.isEmpty()) {
+            LOGGER.warn("Ignoring invalid compiled tower {}: {}", compiledPath, String.join("; ", problems));
+        }
+        return problems.isEmpty();
+    }
+
+    private boolean isInCompiledTowersDirectory(final File towerFile) {
+        final Path directory = this.compiledTowersDirectory;
+        return directory != null && towerFile.toPath().toAbsolutePath().normalize().startsWith(directory);
+    }
+
+    /*
+     * Lazy floors read their files on every access outside a run, so eager loads do not reuse them.
+     */
+    private static boolean isEager(final Tower tower) {
+        return tower.floors().stream().allMatch(floor -> floor.contents().isLoaded());
+    }
+
+    private static Path compiledPath(final File towerFile) {
+        return towerFile.toPath().resolveSibling(CompiledTowerFile.FILENAME);
+    }
+
+    private Tower loadTowerFromJson(final File towerFile, final FloorLoadingMode mode, final List<FileStamp> sources) {
+        final String towerDir = towerFile.getParent();
+        // Files are stamped before being read, so an edit made while loading forces a reload next time
+        sources.add(FileStamp.of(towerFile.toPath()));
+        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(towerFile), StandardCharsets.UTF_8)) {
             final JsonObject towerObj = JsonParser.parseReader(reader).getAsJsonObject();
             // Validate height field exists and is valid
             if (!towerObj.has("height") || towerObj.get("height").getAsInt() <= 0) {
@@ -147,25 +240,19 @@ public final class GameDataManager {
                 throw new IllegalArgumentException("Invalid or missing tower height in configuration");
             }
             final String relativeFloorsPath = towerObj.get("pathToFloors").getAsString();
-            final String absFloorsPath = Paths.get(baseDir, relativeFloorsPath).toString();
+            final String absFloorsPath = Paths.get(towerDir, relativeFloorsPath).toString();
             final String relativeAttacksPath = towerObj.get("pathToAttacks").getAsString();
-            final String absAttacksPath = Paths.get(baseDir, relativeAttacksPath).toString();
+            final String absAttacksPath = Paths.get(towerDir, relativeAttacksPath).toString();
             final int height = towerObj.get("height").getAsInt();
-            this.towerData = new Tower(
+            sources.add(FileStamp.of(Path.of(absAttacksPath)));
+            final Map<String, String> attacksSprite = loadAttacksData(absAttacksPath);
+            final List<FloorData> floors = loadVerifiedFloors(absFloorsPath, towerDir, height, mode, sources);
+            return new Tower(
                 towerObj.get("name").getAsString(),
                 towerObj.get("description").getAsString(),
-                new ArrayList<>(),
-                new HashMap<>(),
-                height
-            );
-            loadGameData(absFloorsPath);
-            final Map<String, String> attacksSprite = loadAttacksData(absAttacksPath);
-            this.towerData = new Tower(
-                this.towerData.name(),
-                this.towerData.description(),
-                new ArrayList<>(this.floors),
+                floors,
                 attacksSprite,
-                this.towerData.height()
+                height
             );
         } catch (final IOException e) {
             final String message = "Error loading tower file: " + e.getMessage();
@@ -174,7 +261,7 @@ public final class GameDataManager {
         }
     }
 
-    // Helper method to load attacks data from JSON file
+    // Helper method to load attacks data from JSON file, interning the attack ids
     private Map<String, String> loadAttacksData(final String attacksPath) {
         final Map<String, String> attacksMap = new HashMap<>();
         try (InputStreamReader reader = new InputStreamReader(new FileInputStream(attacksPath), StandardCharsets.UTF_8)) {
@@ -185,6 +272,7 @@ public final class GameDataManager {
                 final String effect = obj.get("effectPath").getAsString();
                 // Maintain relative paths (baseDir is tower folder)
                 attacksMap.put(id, effect);
+                AttackIndex.intern(id);
             }
         } catch (final IOException e) {
             LOGGER.error("Error loading attacks data: {}", e.getMessage(), e);
@@ -225,6 +313,25 @@ public final class GameDataManager {
         return this.towerData;
     }
 
+    /**
+     * Gets the latest loaded snapshot of a tower.
+     *
+     * @param towerJsonPath the path to the tower.json file
+     * @return Optional containing the snapshot, or empty if the tower is not currently loaded
+     */
+    public Optional<TowerSnapshot> getSnapshot(final String towerJsonPath) {
+        return registry.get(towerJsonPath);
+    }
+
+    /**
+     * Gets the number of tower snapshots retained by the manager, which is bounded whatever the number of loads.
+     *
+     * @return the number of retained snapshots
+     */
+    public int getSnapshotCount() {
+        return registry.size();
+    }
+
     /**
      * Sets the path to the currently selected tower for gameplay.
      * This saves memory by not loading the tower until needed.
@@ -245,77 +352,181 @@ public final class GameDataManager {
         return Optional.ofNullable(this.selectedTowerPath);
     }
 
-    private void loadFloors() {
-        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(floorsPath), StandardCharsets.UTF_8)) {
-            final JsonArray floorsArray = JsonParser.parseReader(reader).getAsJsonArray();
-            for (final var floorElement : floorsArray) {
-                final JsonObject floorObj = floorElement.getAsJsonObject();
-                final String enemyPathRel = floorObj.get("enemyPath").getAsString();
-                final String enemyPath = Paths.get(baseDir, enemyPathRel).toString();
-                final String weaponsPathRel = floorObj.get("weaponsPath").getAsString();
-                final String weaponsPath = Paths.get(baseDir, weaponsPathRel).toString();
-                final String floorName = floorObj.get("floorName").getAsString();
-                final String spritePath = floorObj.get("spritePath").getAsString();
-                final String absoluteSprite = new File(baseDir, spritePath).getAbsolutePath();
-                final int spawnWeight = floorObj.get("spawnWeight").getAsInt();
-                final JsonObject spawnRange = floorObj.get("spawningRange").getAsJsonObject();
-                final int minLevel = spawnRange.get("minLevel").getAsInt();
-                final int maxLevel = spawnRange.get("maxLevel").getAsInt();
-                final double visibility = floorObj.get("visibility").getAsDouble();
-
-                final Optional<List<Enemy>> enemies = loadEnemies(enemyPath);
-                final Optional<List<Weapon>> weapons = loadWeapons(weaponsPath);
-
-                floors.add(new FloorData(
-                    floorName,
-                    absoluteSprite,
-                    enemies,
-                    weapons,
-                    new Pair<>(minLevel, maxLevel),
-                    spawnWeight,
-                    visibility
-                ));
-            }
+    /**
+     * Sets how the enemy and weapon files of the floors are read when a tower is loaded.
+     *
+     * @param mode the loading mode to use for the next loads
+     */
+    public void setFloorLoadingMode(final FloorLoadingMode mode) {
+        this.loadingMode = mode;
+    }
+
+    /**
+     * Gets the mode used to read the enemy and weapon files of the floors.
+     *
+     * @return the current loading mode
+     */
+    public FloorLoadingMode getFloorLoadingMode() {
+        return this.loadingMode;
+    }
+
+    /**
+     * Sets whether towers are read from and compiled to the binary image next to their tower.json.
+     *
+     * @param enabled true to use compiled towers, false to always load the JSON files
+     */
+    public void setCompiledTowersEnabled(final boolean enabled) {
+        this.compiledTowersEnabled = enabled;
+    }
+
+    /**
+     * Sets the directory whose towers are compiled when they are eagerly loaded from JSON, such as the
+     * directory of the imported towers. The towers outside it are only compiled by {@link #compileTower(String)}.
+     *
+     * @param directory the directory, or null to never compile towers while loading them
+     */
+    public void setCompiledTowersDirectory(final Path directory) {
+        this.compiledTowersDirectory = directory == null ? null : directory.toAbsolutePath().normalize();
+    }
+
+    private List<FloorData> loadFloors(final String floorsPath, final String towerDir, final int height,
+            final FloorLoadingMode mode, final List<FileStamp> sources, final List<String> problems) {
+        if (height < 1) {
+            problems.add("tower height must be positive");
+            return List.of();
+        }
+        final List<FloorEntry> entries;
+        sources.add(FileStamp.of(Path.of(floorsPath)));
+        try (JsonReader reader = openReader(floorsPath)) {
+            entries = TowerJsonReader.readFloors(reader, towerDir);
         } catch (final IOException e) {
-            LOGGER.error("Error loading floors: {}", e.getMessage());
-            throw new IllegalStateException("Failed to load floors", e);
+            problems.add("cannot read floors file: " + e.getMessage());
+            return List.of();
         }
+        verifyCoverage(entries.stream().map(FloorEntry::spawningRange).toList(), height, problems);
+        if (!problems.isEmpty()) {
+            return List.of();
+        }
+        for (final FloorEntry entry : entries) {
+            sources.add(FileStamp.of(Path.of(entry.enemyPath())));
+            sources.add(FileStamp.of(Path.of(entry.weaponsPath())));
+        }
+        final List<FloorData> floors = switch (mode) {
+            case PARALLEL -> loadFloorContentsInParallel(entries, towerDir);
+            case SEQUENTIAL -> loadFloorContents(entries, towerDir);
+            case LAZY -> entries.stream().map(entry -> entry.toFloorData(FloorContents.lazy(
+                () -> loadEnemies(entry.enemyPath(), towerDir),
+                () -> loadWeapons(entry.weaponsPath(), towerDir)
+            ))).toList();
+        };
+        verifyFirstFloor(floors.get(0), problems);
+        return floors;
     }
 
-    private Optional<List<Enemy>> loadEnemies(final String enemyPath) {
+    private static void verifyFirstFloor(final FloorData first, final List<String> problems) {
+        if (first.enemies().isEmpty()) {
+            problems.add("first floor has no enemies");
+        }
+        if (first.weapons().isEmpty()) {
+            problems.add("first floor has no weapons");
+        }
+    }
+
+    private static void verifyCoverage(final List<Pair<Integer, Integer>> spawningRanges, final int height,
+            final List<String> problems) {
+        if (spawningRanges.isEmpty()) {
+            problems.add("no floors declared");
+            return;
+        }
+        // Ensure that for each level 1 to towerHeight there is at least one floor covering it
+        for (int level = 1; level <= height; level++) {
+            boolean covered = false;
+            for (final Pair<Integer, Integer> range : spawningRanges) {
+                if (level >= range.getX() && level <= range.getY()) {
+                    covered = true;
+                    break;
+                }
+            }
+            if (!covered) {
+                problems.add("level " + level + " is not covered by any floor");
+            }
+        }
+    }
+
+    private List<FloorData> loadFloorContents(final List<FloorEntry> entries, final String towerDir) {
+        final List<FloorData> floors = new ArrayList<>(entries.size());
+        for (final FloorEntry entry : entries) {
+            floors.add(entry.toFloorData(
+                loadEnemies(entry.enemyPath(), towerDir),
+                loadWeapons(entry.weaponsPath(), towerDir)
+            ));
+        }
+        return floors;
+    }
+
+    /*
+     * Reads the enemy and weapon files of every floor on its own virtual thread, then joins the results
+     * in the declared floor order. All failures are collected and reported together.
+     */
+    private List<FloorData> loadFloorContentsInParallel(final List<FloorEntry> entries, final String towerDir) {
+        final List<Future<Optional<List<Enemy>>>> enemies = new ArrayList<>(entries.size());
+        final List<Future<Optional<List<Weapon>>>> weapons = new ArrayList<>(entries.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final FloorEntry entry : entries) {
+                enemies.add(executor.submit(() -> loadEnemies(entry.enemyPath(), towerDir)));
+                weapons.add(executor.submit(() -> loadWeapons(entry.weaponsPath(), towerDir)));
+            }
+        }
+        final List<FloorData> floors = new ArrayList<>(entries.size());
+        final List<Throwable> errors = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            final FloorEntry entry = entries.get(i);
+            final Optional<List<Enemy>> floorEnemies = joinFloorFile(enemies.get(i), entry.enemyPath(), errors);
+            final Optional<List<Weapon>> floorWeapons = joinFloorFile(weapons.get(i), entry.weaponsPath(), errors);
+            if (errors.isEmpty()) {
+                floors.add(entry.toFloorData(floorEnemies, floorWeapons));
+            }
+        }
+        if (!errors.isEmpty()) {
+            final IllegalArgumentException error = new IllegalArgumentException(errors.size()
+                + " floor files failed to load: "
+                + errors.stream().map(Throwable::getMessage).collect(Collectors.joining("; ")));
+            errors.forEach(error::addSuppressed);
+            throw error;
+        }
+        return floors;
+    }
+
+    private static <T> Optional<T> joinFloorFile(final Future<Optional<T>> file, final String path,
+            final List<Throwable> errors) {
+        if (file.state() == Future.State.SUCCESS) {
+            return file.resultNow();
+        }
+        final Throwable cause = file.exceptionNow();
+        errors.add(new IllegalArgumentException(path + ": " + cause.getMessage(), cause));
+        return Optional.empty();
+    }
+
+    private Optional<List<Enemy>> loadEnemies(final String enemyPath, final String towerDir) {
         if (enemyPath.isEmpty()) {
             return Optional.empty();
         }
-        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(enemyPath), StandardCharsets.UTF_8)) {
-            final JsonElement root = JsonParser.parseReader(reader);
-            final JsonArray enemiesArray;
-            if (root.isJsonObject() && root.getAsJsonObject().has("enemies")) {
-                enemiesArray = root.getAsJsonObject().get("enemies").getAsJsonArray();
-            } else {
-                enemiesArray = root.getAsJsonArray();
-            }
-            final List<Enemy> enemies = gson.fromJson(enemiesArray, new TypeToken<List<Enemy>>() { }.getType());
-            return enemies != null && !enemies.isEmpty() ? Optional.of(enemies) : Optional.empty();
+        try (JsonReader reader = openReader(enemyPath)) {
+            final List<Enemy> enemies = TowerJsonReader.readEnemies(reader, towerDir);
+            return enemies.isEmpty() ? Optional.empty() : Optional.of(enemies);
         } catch (final IOException e) {
             LOGGER.error("Error loading enemies: {}", e.getMessage(), e);
             return Optional.empty();
         }
     }
 
-    private Optional<List<Weapon>> loadWeapons(final String weaponsPath) {
+    private Optional<List<Weapon>> loadWeapons(final String weaponsPath, final String towerDir) {
         if (weaponsPath.isEmpty()) {
             return Optional.empty();
         }
-        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(weaponsPath), StandardCharsets.UTF_8)) {
-            final JsonElement root = JsonParser.parseReader(reader);
-            final JsonArray weaponsArray;
-            if (root.isJsonObject() && root.getAsJsonObject().has("weapons")) {
-                weaponsArray = root.getAsJsonObject().get("weapons").getAsJsonArray();
-            } else {
-                weaponsArray = root.getAsJsonArray();
-            }
-            final List<Weapon> weapons = gson.fromJson(weaponsArray, new TypeToken<List<Weapon>>() { }.getType());
-            return weapons != null && !weapons.isEmpty() ? Optional.of(weapons) : Optional.empty();
+        try (JsonReader reader = openReader(weaponsPath)) {
+            final List<Weapon> weapons = TowerJsonReader.readWeapons(reader, towerDir);
+            return weapons.isEmpty() ? Optional.empty() : Optional.of(weapons);
         } catch (final IOException e) {
             final String errorMsg = "Failed to load weapons at " + weaponsPath + ": " + e.getMessage();
             LOGGER.error(errorMsg, e);
@@ -323,18 +534,26 @@ public final class GameDataManager {
         }
     }
 
+    private static JsonReader openReader(final String path) throws IOException {
+        final JsonReader reader = new JsonReader(new BufferedReader(
+            new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8)));
+        reader.setLenient(true);
+        return reader;
+    }
+
     /**
      * Returns a defensive copy of the loaded floor data.
      *
-     * @return a new ArrayList containing all loaded floor configurations
+     * @return a new ArrayList containing all floor configurations of the loaded tower
      */
     public List<FloorData> getFloors() {
-        return new ArrayList<>(floors);
+        return this.towerData == null ? new ArrayList<>() : new ArrayList<>(this.towerData.floors());
     }
 
     /**
      * Verifies if the provided path contains valid game data configuration files.
-     * Checks the existence and validity of the main floors file and its referenced enemy and weapon files.
+     * Checks that the floors file covers every level of the tower, and that the enemy and weapon files
+     * of its first floor exist and are not empty. The files of the other floors are checked when loading.
      * 
      * @param testPath the path to verify
      * @return true if all required files exist and are valid, false otherwise
@@ -343,77 +562,19 @@ public final class GameDataManager {
         if (this.towerData == null || this.towerData.height() < 1) {
             return false;
         }
-        try (InputStreamReader reader = new InputStreamReader(
-            new FileInputStream(Paths.get(testPath).toString()), StandardCharsets.UTF_8)) {
-            final JsonArray floorsArray = JsonParser.parseReader(reader).getAsJsonArray();
-            if (floorsArray == null || floorsArray.size() == 0) {
-                return false;
-            }
-
-            final JsonObject floor = floorsArray.get(0).getAsJsonObject();
-            final String enemyPathRel = floor.get("enemyPath").getAsString();
-            final String enemyPath = Paths.get(baseDir, enemyPathRel).toString();
-            final String weaponsPathRel = floor.get("weaponsPath").getAsString();
-            final String weaponsPath = Paths.get(baseDir, weaponsPathRel).toString();
-
-            if (!verifyEnemyFile(enemyPath) || !verifyWeaponFile(weaponsPath)) {
+        try (JsonReader reader = openReader(testPath)) {
+            final List<FloorEntry> entries = TowerJsonReader.readFloors(reader, this.baseDir);
+            final List<String> problems = new ArrayList<>();
+            verifyCoverage(entries.stream().map(FloorEntry::spawningRange).toList(), this.towerData.height(), problems);
+            if (!problems.isEmpty()) {
                 return false;
             }
-
-            // Ensure that for each level 1 to towerHeight there is at least one floor covering it
-            for (int level = 1; level <= this.towerData.height(); level++) {
-                boolean covered = false;
-                for (final JsonElement floorElement : floorsArray) {
-                    final JsonObject floorObj = floorElement.getAsJsonObject();
-                    final JsonObject spawnRange = floorObj.get("spawningRange").getAsJsonObject();
-                    final int minLevel = spawnRange.get("minLevel").getAsInt();
-                    final int maxLevel = spawnRange.get("maxLevel").getAsInt();
-                    if (level >= minLevel && level <= maxLevel) {
-                        covered = true;
-                        break;
-                    }
-                }
-                if (!covered) {
-                    return false;
-                }
-            }
-
-            return true;
-        } catch (final IOException e) {
+            final FloorEntry first = entries.get(0);
+            return loadEnemies(first.enemyPath(), this.baseDir).isPresent()
+                && loadWeapons(first.weaponsPath(), this.baseDir).isPresent();
+        } catch (final IOException | IllegalArgumentException | IllegalStateException e) {
             LOGGER.error("Error verifying path: {}", e.getMessage(), e);
             return false;
         }
     }
-
-    /**
-     * Verifies if the enemy configuration file exists and contains valid data.
-     * 
-     * @param enemyPath the path to the enemy configuration file
-     * @return true if the file exists and contains valid enemy data, false otherwise
-     */
-    private boolean verifyEnemyFile(final String enemyPath) {
-        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(enemyPath), StandardCharsets.UTF_8)) {
-            final JsonArray enemiesArray = JsonParser.parseReader(reader).getAsJsonArray();
-            return enemiesArray != null && enemiesArray.size() > 0;
-        } catch (final IOException e) {
-            LOGGER.error("Error verifying enemy file: {}", e.getMessage(), e);
-            return false;
-        }
-    }
-
-    /**
-     * Verifies if the weapons configuration file exists and contains valid data.
-     * 
-     * @param weaponsPath the path to the weapons configuration file
-     * @return true if the file exists and contains valid weapon data, false otherwise
-     */
-    private boolean verifyWeaponFile(final String weaponsPath) {
-        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(weaponsPath), StandardCharsets.UTF_8)) {
-            final JsonArray weaponsArray = JsonParser.parseReader(reader).getAsJsonArray();
-            return weaponsArray != null && weaponsArray.size() > 0;
-        } catch (final IOException e) {
-            LOGGER.error("Error verifying weapon file: {}", e.getMessage(), e);
-            return false;
-        }
-    }
 }
@@ -0,0 +1,56 @@
+package it.unibo.templetower.controller;
+
+/**
+ * Change of the game state published by the game controller on its {@link GameEventBus}, so that the views
+ * are updated when the state changes rather than polling the controller.
+ * Every event carries the new state, not the difference from the previous one, so that an event can replace
+ * a pending event of the same type that was not delivered yet.
+ */
+public sealed interface GameEvent permits GameEvent.DamageDealt, GameEvent.RoomSelected, GameEvent.RoomEntered,
+        GameEvent.FloorChanged, GameEvent.PlayerDied, TurnResult {
+
+    /**
+     * The life of the player or of the enemy in the current room changed.
+     *
+     * @param playerLife the life of the player
+     * @param enemyLife the life of the enemy in the current room, or a negative value if the room has no enemy
+     */
+    record DamageDealt(double playerLife, double enemyLife) implements GameEvent {
+    }
+
+    /**
+     * The player moved to another room of the floor, or the room can no longer be entered.
+     *
+     * @param room the index of the room
+     * @param enterable true if the room can be entered
+     */
+    record RoomSelected(int room, boolean enterable) implements GameEvent {
+    }
+
+    /**
+     * The player entered a room.
+     *
+     * @param room the index of the room
+     * @param name the name of the view of the room
+     */
+    record RoomEntered(int room, String name) implements GameEvent {
+    }
+
+    /**
+     * The player reached a new floor, including the first floor of a new game.
+     *
+     * @param level the level of the floor, starting from 1
+     * @param rooms the number of rooms of the floor
+     * @param boss true if the floor is the one of the boss
+     */
+    record FloorChanged(int level, int rooms, boolean boss) implements GameEvent {
+    }
+
+    /**
+     * The player died.
+     *
+     * @param level the level of the floor where the player died
+     */
+    record PlayerDied(int level) implements GameEvent {
+    }
+}
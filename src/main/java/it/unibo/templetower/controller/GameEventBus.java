@@ -0,0 +1,84 @@
+package it.unibo.templetower.controller;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the {@link GameEvent}s published by the game controller to the listeners subscribed to their type.
+ * Events are delivered through a dispatcher, such as the one running tasks on the JavaFX application thread:
+ * the events published before the dispatcher runs are coalesced, so that a listener receives only the last
+ * event of each type, in the order the types were last published.
+ * Views are pooled for the whole life of the application, so listeners stay subscribed once added.
+ */
+public final class GameEventBus {
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private final Map<Class<? extends GameEvent>, GameEvent> pending = new LinkedHashMap<>();
+    private Executor dispatcher = Runnable::run;
+    private boolean flushScheduled;
+
+    /**
+     * Sets the dispatcher delivering the events. By default events are delivered by the publishing thread.
+     *
+     * @param eventDispatcher the dispatcher
+     */
+    public void setDispatcher(final Executor eventDispatcher) {
+        this.dispatcher = Objects.requireNonNull(eventDispatcher, "Dispatcher cannot be null");
+    }
+
+    /**
+     * Subscribes a listener to the events of a type.
+     *
+     * @param <E> the type of the events
+     * @param type the type of the events
+     * @param listener the listener
+     */
+    public <E extends GameEvent> void subscribe(final Class<E> type, final Consumer<? super E> listener) {
+        subscriptions.add(new Subscription<>(Objects.requireNonNull(type), Objects.requireNonNull(listener)));
+    }
+
+    /**
+     * Publishes an event, replacing the pending event of the same type if it was not delivered yet.
+     *
+     * @param event the event
+     */
+    public void publish(final GameEvent event) {
+        synchronized (pending) {
+            // Removed first, so that the replaced event is delivered after the types published in the meantime
+            pending.remove(event.getClass());
+            pending.put(event.getClass(), event);
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        dispatcher.execute(this::flush);
+    }
+
+    private void flush() {
+        final List<GameEvent> events;
+        synchronized (pending) {
+            events = new ArrayList<>(pending.values());
+            pending.clear();
+            flushScheduled = false;
+        }
+        for (final GameEvent event : events) {
+            for (final Subscription<?> subscription : subscriptions) {
+                subscription.deliver(event);
+            }
+        }
+    }
+
+    private record Subscription<E extends GameEvent>(Class<E> type, Consumer<? super E> listener) {
+        void deliver(final GameEvent event) {
+            if (type.isInstance(event)) {
+                listener.accept(type.cast(event));
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package it.unibo.templetower.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Command line tool that compiles tower directories into their binary image,
+ * so that the first load of a large tower does not need to parse its JSON files.
+ * Loading a tower only writes its image when it is imported as a mod;
+ * the tool is meant to ship towers already compiled.
+ */
+public final class TowerCompiler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TowerCompiler.class);
+    private static final String TOWER_CONFIG_FILENAME = "tower.json";
+
+    private TowerCompiler() {
+    }
+
+    /**
+     * Compiles the towers given as arguments.
+     *
+     * @param args the paths of the tower directories or of their tower.json files
+     */
+    public static void main(final String[] args) {
+        if (args.length == 0) {
+            LOGGER.error("Usage: TowerCompiler <tower directory or tower.json>...");
+            return;
+        }
+        for (final String arg : args) {
+            final File source = new File(arg);
+            final File towerJson = source.isDirectory() ? new File(source, TOWER_CONFIG_FILENAME) : source;
+            try {
+                final Path compiled = GameDataManager.getInstance().compileTower(towerJson.getPath());
+                LOGGER.info("Compiled {} into {}", towerJson, compiled);
+            } catch (IOException | IllegalArgumentException e) {
+                LOGGER.error("Cannot compile {}: {}", towerJson, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package it.unibo.templetower.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import it.unibo.templetower.model.Enemy;
+import it.unibo.templetower.model.FloorContents;
+import it.unibo.templetower.model.FloorData;
+import it.unibo.templetower.model.RoomWeights;
+import it.unibo.templetower.model.Weapon;
+import it.unibo.templetower.utils.Pair;
+
+/**
+ * Streaming reader for the floors, enemies and weapons files of a tower.
+ * Records are built directly from the JSON tokens, without materializing an intermediate tree,
+ * so that large generated files are read with a single pass and minimal allocation.
+ * Unknown properties are skipped.
+ */
+final class TowerJsonReader {
+    private static final String ATTACK_ID_KEY = "attackId";
+    private static final String DAMAGE_KEY = "damage";
+
+    private TowerJsonReader() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Reads the floor declarations of a floors file.
+     *
+     * @param reader the reader positioned at the start of the document
+     * @param baseDir the tower directory, used to resolve relative paths
+     * @return the declared floors, in file order
+     * @throws IOException if the document cannot be read
+     */
+    static List<FloorEntry> readFloors(final JsonReader reader, final String baseDir) throws IOException {
+        final List<FloorEntry> floors = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            floors.add(readFloor(reader, baseDir));
+        }
+        reader.endArray();
+        return floors;
+    }
+
+    private static FloorEntry readFloor(final JsonReader reader, final String baseDir) throws IOException {
+        String floorName = null;
+        String spritePath = null;
+        String enemyPath = null;
+        String weaponsPath = null;
+        Integer spawnWeight = null;
+        Pair<Integer, Integer> spawningRange = null;
+        Double visibility = null;
+        RoomWeights roomWeights = RoomWeights.DEFAULT;
+        int roomCount = FloorData.DEFAULT_ROOM_COUNT;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "floorName" -> floorName = reader.nextString();
+                case "spritePath" -> spritePath = new File(baseDir, reader.nextString()).getAbsolutePath();
+                case "enemyPath" -> enemyPath = Paths.get(baseDir, reader.nextString()).toString();
+                case "weaponsPath" -> weaponsPath = Paths.get(baseDir, reader.nextString()).toString();
+                case "spawnWeight" -> spawnWeight = reader.nextInt();
+                case "spawningRange" -> spawningRange = readSpawningRange(reader);
+                case "visibility" -> visibility = reader.nextDouble();
+                case "roomWeights" -> roomWeights = readRoomWeights(reader);
+                case "roomCount" -> roomCount = reader.nextInt();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new FloorEntry(
+            require(floorName, "floorName"),
+            require(spritePath, "spritePath"),
+            require(enemyPath, "enemyPath"),
+            require(weaponsPath, "weaponsPath"),
+            require(spawningRange, "spawningRange"),
+            require(spawnWeight, "spawnWeight"),
+            require(visibility, "visibility"),
+            roomWeights,
+            roomCount
+        );
+    }
+
+    /*
+     * Room types missing from the object get no weight, so a floor can disable them by leaving them out.
+     */
+    private static RoomWeights readRoomWeights(final JsonReader reader) throws IOException {
+        double enemy = 0;
+        double empty = 0;
+        double treasure = 0;
+        double trap = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "enemy" -> enemy = reader.nextDouble();
+                case "empty" -> empty = reader.nextDouble();
+                case "treasure" -> treasure = reader.nextDouble();
+                case "trap" -> trap = reader.nextDouble();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new RoomWeights(enemy, empty, treasure, trap);
+    }
+
+    private static Pair<Integer, Integer> readSpawningRange(final JsonReader reader) throws IOException {
+        Integer minLevel = null;
+        Integer maxLevel = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "minLevel" -> minLevel = reader.nextInt();
+                case "maxLevel" -> maxLevel = reader.nextInt();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Pair<>(require(minLevel, "minLevel"), require(maxLevel, "maxLevel"));
+    }
+
+    /**
+     * Reads the enemies of an enemy file. The file can contain either an array of enemies
+     * or an object holding the array in its "enemies" property.
+     *
+     * @param reader the reader positioned at the start of the document
+     * @param baseDir the tower directory, used to resolve sprite paths
+     * @return the enemies, in file order
+     * @throws IOException if the document cannot be read
+     */
+    static List<Enemy> readEnemies(final JsonReader reader, final String baseDir) throws IOException {
+        final List<Enemy> enemies = new ArrayList<>();
+        readRootArray(reader, "enemies", () -> enemies.add(readEnemy(reader, baseDir)));
+        return enemies;
+    }
+
+    private static Enemy readEnemy(final JsonReader reader, final String baseDir) throws IOException {
+        String name = null;
+        Double health = null;
+        Integer level = null;
+        String spritePath = null;
+        List<Pair<String, Double>> attacks = null;
+        final Map<String, Double> multipliers = new HashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "health" -> health = reader.nextDouble();
+                case "level" -> level = reader.nextInt();
+                case "spritePath" -> spritePath = new File(baseDir, reader.nextString()).getAbsolutePath();
+                case "attacks" -> attacks = readAttacks(reader);
+                case "damageMultipliers" -> readMultipliers(reader, multipliers);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Enemy(
+            require(name, "name"),
+            require(health, "health"),
+            require(level, "level"),
+            require(attacks, "attacks"),
+            multipliers,
+            require(spritePath, "spritePath")
+        );
+    }
+
+    private static List<Pair<String, Double>> readAttacks(final JsonReader reader) throws IOException {
+        final List<Pair<String, Double>> attacks = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            attacks.add(readAttack(reader));
+        }
+        reader.endArray();
+        return attacks;
+    }
+
+    private static Pair<String, Double> readAttack(final JsonReader reader) throws IOException {
+        String attackId = null;
+        Double damage = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case ATTACK_ID_KEY -> attackId = reader.nextString();
+                case DAMAGE_KEY -> damage = reader.nextDouble();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Pair<>(require(attackId, ATTACK_ID_KEY), require(damage, DAMAGE_KEY));
+    }
+
+    private static void readMultipliers(final JsonReader reader, final Map<String, Double> multipliers)
+            throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String attackId = null;
+            Double multiplier = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case ATTACK_ID_KEY -> attackId = reader.nextString();
+                    case "multiplier" -> multiplier = reader.nextDouble();
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+            multipliers.put(require(attackId, ATTACK_ID_KEY), require(multiplier, "multiplier"));
+        }
+        reader.endArray();
+    }
+
+    /**
+     * Reads the weapons of a weapon file. The file can contain either an array of weapons
+     * or an object holding the array in its "weapons" property.
+     *
+     * @param reader the reader positioned at the start of the document
+     * @param baseDir the tower directory, used to resolve sprite paths
+     * @return the weapons, in file order
+     * @throws IOException if the document cannot be read
+     */
+    static List<Weapon> readWeapons(final JsonReader reader, final String baseDir) throws IOException {
+        final List<Weapon> weapons = new ArrayList<>();
+        readRootArray(reader, "weapons", () -> weapons.add(readWeapon(reader, baseDir)));
+        return weapons;
+    }
+
+    private static Weapon readWeapon(final JsonReader reader, final String baseDir) throws IOException {
+        String name = null;
+        Integer level = null;
+        String spritePath = null;
+        Pair<String, Double> attack = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "level" -> level = reader.nextInt();
+                case "spritePath" -> spritePath = new File(baseDir, reader.nextString()).getAbsolutePath();
+                case "attack" -> {
+                    if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                        throw new IllegalArgumentException("Weapon JSON missing or invalid 'attack' property");
+                    }
+                    attack = readAttack(reader);
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (attack == null) {
+            throw new IllegalArgumentException("Weapon JSON missing or invalid 'attack' property");
+        }
+        return new Weapon(require(name, "name"), require(level, "level"), attack, require(spritePath, "spritePath"));
+    }
+
+    /*
+     * Reads the elements of the root array, which may be wrapped in an object under the given property.
+     */
+    private static void readRootArray(final JsonReader reader, final String wrapperKey, final ElementReader element)
+            throws IOException {
+        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+            reader.beginObject();
+            boolean found = false;
+            while (reader.hasNext()) {
+                if (!found && wrapperKey.equals(reader.nextName())) {
+                    readArray(reader, element);
+                    found = true;
+                } else if (found) {
+                    reader.nextName();
+                    reader.skipValue();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            if (!found) {
+                throw new IllegalArgumentException("Missing '" + wrapperKey + "' array");
+            }
+        } else {
+            readArray(reader, element);
+        }
+    }
+
+    private static void readArray(final JsonReader reader, final ElementReader element) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            element.read();
+        }
+        reader.endArray();
+    }
+
+    private static <T> T require(final T value, final String property) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required property '" + property + "'");
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface ElementReader {
+        void read() throws IOException;
+    }
+
+    /**
+     * Floor declaration read from the floors file, before its enemy and weapon files are loaded.
+     *
+     * @param floorName the name of the floor
+     * @param spritePath the absolute path to the floor's sprite
+     * @param enemyPath the absolute path to the floor's enemy file
+     * @param weaponsPath the absolute path to the floor's weapon file
+     * @param spawningRange pair containing min and max levels for floor generation
+     * @param spawnWeight weight value affecting how likely this floor is to be selected
+     * @param visibility probability (0 to 1) of viewing the floor's tiles
+     * @param roomWeights relative weights of the room types generated on the floor
+     * @param roomCount number of rooms generated on the floor, including the stairs
+     */
+    record FloorEntry(
+        String floorName,
+        String spritePath,
+        String enemyPath,
+        String weaponsPath,
+        Pair<Integer, Integer> spawningRange,
+        int spawnWeight,
+        double visibility,
+        RoomWeights roomWeights,
+        int roomCount) {
+
+        FloorData toFloorData(final Optional<List<Enemy>> enemies, final Optional<List<Weapon>> weapons) {
+            return toFloorData(FloorContents.of(enemies, weapons));
+        }
+
+        FloorData toFloorData(final FloorContents contents) {
+            return new FloorData(floorName, spritePath, contents, spawningRange, spawnWeight, visibility, roomWeights,
+                roomCount);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package it.unibo.templetower.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import it.unibo.templetower.model.Tower;
+import it.unibo.templetower.model.TowerSnapshot;
+import it.unibo.templetower.utils.FileStamp;
+
+/**
+ * Registry of the loaded tower snapshots, keyed by the canonical path of their tower.json.
+ * It keeps only the latest snapshot of each path and at most a fixed number of paths,
+ * evicting the least recently used one, so that the memory retained by loaded towers stays bounded.
+ * Snapshots also act as a parse cache: a snapshot whose source files are unchanged can be reused as is.
+ */
+final class TowerRegistry {
+    private static final int MAX_SNAPSHOTS = 4;
+    private final Map<String, TowerSnapshot> snapshots = new LinkedHashMap<>(MAX_SNAPSHOTS, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, TowerSnapshot> eldest) {
+            return size() > MAX_SNAPSHOTS;
+        }
+    };
+
+    /**
+     * Publishes a newly loaded tower, releasing the previous snapshot of the same path.
+     *
+     * @param towerJsonPath the path of the tower.json file
+     * @param tower the loaded tower
+     * @param sources the stamps of the files the tower was read from
+     * @return the published snapshot
+     */
+    synchronized TowerSnapshot publish(final String towerJsonPath, final Tower tower, final List<FileStamp> sources) {
+        final String key = canonicalPath(towerJsonPath);
+        final TowerSnapshot previous = snapshots.get(key);
+        final TowerSnapshot snapshot = new TowerSnapshot(key, previous == null ? 1 : previous.version() + 1,
+            tower, sources);
+        snapshots.put(key, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Gets the latest snapshot of a tower.
+     *
+     * @param towerJsonPath the path of the tower.json file
+     * @return Optional containing the snapshot, or empty if the tower was never loaded or was evicted
+     */
+    synchronized Optional<TowerSnapshot> get(final String towerJsonPath) {
+        return Optional.ofNullable(snapshots.get(canonicalPath(towerJsonPath)));
+    }
+
+    /**
+     * Gets the latest snapshot of a tower only if none of its source files changed since it was loaded.
+     * The check only stats the files, without reading them.
+     *
+     * @param towerJsonPath the path of the tower.json file
+     * @return Optional containing the up to date snapshot, or empty if it must be reloaded
+     */
+    Optional<TowerSnapshot> getCurrent(final String towerJsonPath) {
+        return get(towerJsonPath).filter(TowerSnapshot::isCurrent);
+    }
+
+    /**
+     * @return the number of snapshots currently retained
+     */
+    synchronized int size() {
+        return snapshots.size();
+    }
+
+    private static String canonicalPath(final String path) {
+        final File file = new File(path);
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package it.unibo.templetower.controller;
+
+import it.unibo.templetower.model.CombatOutcome;
+
+/**
+ * Result of a combat action played by the turn scheduler, published to the views.
+ * When several actions are played before the views are updated, only the last one is delivered:
+ * it carries the life of both fighters.
+ *
+ * @param action the action that was played
+ * @param turn the number of the turn the action belongs to, starting from 1 for every fight
+ * @param playerLife the life of the player after the action
+ * @param enemyLife the life of the enemy after the action
+ * @param outcome how the fight ended, or {@link CombatOutcome#UNDECIDED} while it goes on
+ */
+public record TurnResult(Action action, int turn, double playerLife, double enemyLife, CombatOutcome outcome)
+        implements GameEvent {
+
+    /**
+     * The actions a combat turn is made of, in the order they are played.
+     */
+    public enum Action {
+        /** The enemy strikes the player. */
+        ENEMY_STRIKE,
+        /** The player strikes the enemy. */
+        PLAYER_STRIKE
+    }
+
+    /**
+     * @return true if the fight is over
+     */
+    public boolean isFinal() {
+        return outcome != CombatOutcome.UNDECIDED;
+    }
+}
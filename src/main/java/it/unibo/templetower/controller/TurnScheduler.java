@@ -0,0 +1,152 @@
+package it.unibo.templetower.controller;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import it.unibo.templetower.controller.TurnResult.Action;
+import it.unibo.templetower.model.CombatOutcome;
+import it.unibo.templetower.model.Player;
+import it.unibo.templetower.model.Room;
+
+/**
+ * Plays the combat turns of the current fight on a fixed logic tick, independently of the animations
+ * showing them. A requested turn queues the strike of the enemy and then the one of the player, and every
+ * tick plays one queued action and publishes its {@link TurnResult}. The player wins when its strike kills
+ * the enemy, even if the strike of the enemy in the same turn took its last life point, and beating an enemy
+ * restores the player's life.
+ * The game views drive the scheduler with the frame clock through {@link #update(long)}, while headless
+ * callers play every queued action at once with {@link #runPending()}.
+ * The scheduler is not thread safe: it must be driven by the thread that owns the game state.
+ */
+final class TurnScheduler {
+    /** Duration of a logic tick. */
+    static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(150);
+    // After a long pause, such as a stalled frame, at most these many ticks are caught up at once
+    private static final int MAX_CATCH_UP_TICKS = 4;
+    private static final int ENEMY_STRIKE = 0;
+    private static final int PLAYER_STRIKE = 1;
+    private static final long NOT_STARTED = -1;
+
+    private final Player player;
+    private final Deque<Action> pending = new ArrayDeque<>();
+    private Consumer<TurnResult> listener = result -> { };
+    private Room room;
+    private int turn;
+    private boolean decided;
+    private long lastUpdate = NOT_STARTED;
+    private long elapsed;
+
+    /**
+     * Creates a scheduler for the fights of a player.
+     *
+     * @param player the player
+     */
+    TurnScheduler(final Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Starts a fight, dropping any action left from the previous one.
+     *
+     * @param enemyRoom the room of the enemy to fight
+     */
+    void startFight(final Room enemyRoom) {
+        this.room = enemyRoom;
+        pending.clear();
+        turn = 0;
+        decided = false;
+    }
+
+    /**
+     * Ends the current fight, if any, dropping its queued actions.
+     */
+    void stopFight() {
+        room = null;
+        pending.clear();
+    }
+
+    /**
+     * Sets the listener receiving the result of every action, replacing the previous one.
+     *
+     * @param resultListener the listener
+     */
+    void setListener(final Consumer<TurnResult> resultListener) {
+        this.listener = resultListener;
+    }
+
+    /**
+     * Queues a turn of the current fight.
+     *
+     * @return false if there is no fight going on or a turn is already queued
+     */
+    boolean requestTurn() {
+        if (room == null || decided || !pending.isEmpty()) {
+            return false;
+        }
+        pending.add(Action.ENEMY_STRIKE);
+        pending.add(Action.PLAYER_STRIKE);
+        return true;
+    }
+
+    /**
+     * Advances the logic clock, playing an action for every tick elapsed since the previous update.
+     *
+     * @param now the current time in nanoseconds, from a monotonic clock such as {@link System#nanoTime()}
+     */
+    void update(final long now) {
+        if (lastUpdate != NOT_STARTED) {
+            elapsed += now - lastUpdate;
+        }
+        lastUpdate = now;
+        int ticks = 0;
+        while (elapsed >= TICK_NANOS && ticks < MAX_CATCH_UP_TICKS) {
+            tick();
+            elapsed -= TICK_NANOS;
+            ticks++;
+        }
+        // An idle scheduler plays the next requested action on the next update, not a burst of them
+        elapsed = Math.min(elapsed, TICK_NANOS);
+    }
+
+    /**
+     * Plays every queued action without waiting for the ticks.
+     */
+    void runPending() {
+        while (!pending.isEmpty()) {
+            tick();
+        }
+    }
+
+    /**
+     * Plays the next queued action, if any.
+     */
+    void tick() {
+        final Action action = pending.poll();
+        if (action == null) {
+            return;
+        }
+        CombatOutcome outcome = CombatOutcome.UNDECIDED;
+        if (action == Action.ENEMY_STRIKE) {
+            turn++;
+            room.interactWithRoom(player, ENEMY_STRIKE);
+        } else {
+            room.interactWithRoom(player, PLAYER_STRIKE);
+            if (room.getEnemyLife() <= 0) {
+                outcome = CombatOutcome.PLAYER_WON;
+            } else if (player.getLife() <= 0) {
+                outcome = CombatOutcome.ENEMY_WON;
+            }
+        }
+        final TurnResult result = new TurnResult(action, turn, player.getLife(), room.getEnemyLife(), outcome);
+        if (result.isFinal()) {
+            decided = true;
+            pending.clear();
+        }
+        if (outcome == CombatOutcome.PLAYER_WON) {
+            player.resetLife();
+        }
+        listener.accept(result);
+    }
+}
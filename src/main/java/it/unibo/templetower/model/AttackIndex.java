@@ -0,0 +1,69 @@
+package it.unibo.templetower.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Interns attack ids to dense integers, so that damage multipliers can be stored in arrays indexed by attack
+ * instead of maps keyed by strings.
+ * Ids are shared by every tower and never released: towers declare a handful of attacks, so the ids stay
+ * dense and few. The attacks of attacks-data.json are interned when a tower loads, and the attacks of enemies
+ * and weapons when they are built; lookups use {@link #find(String)}, which never adds an attack.
+ */
+public final class AttackIndex {
+    /** Id returned by {@link #find(String)} for the attacks that were never interned. */
+    public static final int UNKNOWN = -1;
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final List<String> NAMES = new CopyOnWriteArrayList<>();
+
+    private AttackIndex() {
+    }
+
+    /**
+     * Gets the id of an attack, assigning the next free one to attacks never seen before.
+     *
+     * @param attackId the attack id used in the tower files
+     * @return the dense id of the attack
+     */
+    public static int intern(final String attackId) {
+        final Integer id = IDS.get(attackId);
+        return id == null ? register(attackId) : id;
+    }
+
+    /**
+     * Gets the id of an attack without assigning one, so that lookups never grow the table.
+     *
+     * @param attackId the attack id used in the tower files
+     * @return the dense id of the attack, or {@link #UNKNOWN} if it was never interned
+     */
+    public static int find(final String attackId) {
+        final Integer id = IDS.get(attackId);
+        return id == null ? UNKNOWN : id;
+    }
+
+    /**
+     * @param id a dense id returned by {@link #intern(String)}
+     * @return the attack id it was assigned to
+     * @throws IndexOutOfBoundsException if no attack has the id
+     */
+    public static String name(final int id) {
+        return NAMES.get(id);
+    }
+
+    /**
+     * @return the number of interned attacks, which is one more than the highest id
+     */
+    public static int size() {
+        return NAMES.size();
+    }
+
+    private static synchronized int register(final String attackId) {
+        return IDS.computeIfAbsent(attackId, key -> {
+            NAMES.add(key);
+            return NAMES.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package it.unibo.templetower.model;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Unmodifiable damage multipliers of an enemy, keyed by attack id.
+ * Besides the map view, the multipliers are kept in a row indexed by {@link AttackIndex} ids, so that a hit
+ * reads its multiplier with an array access; the rows of all the enemies form the multiplier matrix of the tower.
+ * Attacks without a multiplier deal their damage unchanged.
+ */
+final class AttackMultipliers extends AbstractMap<String, Double> {
+    /** Multiplier of the attacks the enemy has no multiplier for. */
+    static final double NEUTRAL = 1.0;
+
+    private final Map<String, Double> multipliers;
+    private final double[] row;
+
+    /**
+     * Copies multipliers, interning their attack ids.
+     *
+     * @param multipliers the multipliers by attack id
+     */
+    AttackMultipliers(final Map<String, Double> multipliers) {
+        this.multipliers = Collections.unmodifiableMap(new HashMap<>(multipliers));
+        final int[] ids = this.multipliers.keySet().stream().mapToInt(AttackIndex::intern).toArray();
+        // Attacks interned later get higher ids, which fall past the row and are neutral
+        this.row = new double[Arrays.stream(ids).max().orElse(-1) + 1];
+        Arrays.fill(row, NEUTRAL);
+        for (final int id : ids) {
+            row[id] = this.multipliers.get(AttackIndex.name(id));
+        }
+    }
+
+    /**
+     * @param attackId the dense id of an attack
+     * @return the multiplier of the attack
+     */
+    double multiplier(final int attackId) {
+        return attackId >= 0 && attackId < row.length ? row[attackId] : NEUTRAL;
+    }
+
+    @Override
+    public Double get(final Object key) {
+        return multipliers.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return multipliers.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return multipliers.size();
+    }
+
+    @Override
+    public Set<Entry<String, Double>> entrySet() {
+        return multipliers.entrySet();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return multipliers.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return multipliers.hashCode();
+    }
+}
@@ -0,0 +1,186 @@
+package it.unibo.templetower.model;
+
+import java.util.Arrays;
+
+/**
+ * A batch of fights to resolve with a {@link CombatResolver}, stored as primitive arrays.
+ * Fights are described by the life of the player, the damage of each of its hits, the life of the enemy
+ * and the damage of each of its answers; the resolver then fills in how each fight ended.
+ * A batch grows as fights are added and can be cleared and refilled without allocating.
+ */
+public final class CombatBatch {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int size;
+    private double[] playerLife;
+    private double[] playerDamage;
+    private double[] enemyLife;
+    private double[] enemyDamage;
+    private CombatOutcome[] outcomes;
+    private int[] turns;
+    private double[] remainingPlayerLife;
+    private double[] remainingEnemyLife;
+
+    /**
+     * Creates an empty batch.
+     */
+    public CombatBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param capacity the number of fights the batch holds before growing
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public CombatBatch(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        playerLife = new double[capacity];
+        playerDamage = new double[capacity];
+        enemyLife = new double[capacity];
+        enemyDamage = new double[capacity];
+        outcomes = new CombatOutcome[capacity];
+        turns = new int[capacity];
+        remainingPlayerLife = new double[capacity];
+        remainingEnemyLife = new double[capacity];
+    }
+
+    /**
+     * Adds the fight of a player against a new enemy.
+     *
+     * @param life the life of the player
+     * @param weapon the weapon the player fights with
+     * @param enemy the enemy, at full health
+     * @param difficulty the multiplier of the player's damage
+     * @return the index of the fight in the batch
+     */
+    public int add(final double life, final Weapon weapon, final Enemy enemy, final double difficulty) {
+        final double damage = weapon.attack().getY()
+            * enemy.damageMultiplier(AttackIndex.intern(weapon.attack().getX())) * difficulty;
+        return add(life, damage, enemy.health(), enemy.attackDamage());
+    }
+
+    /**
+     * Adds a fight.
+     *
+     * @param life the life of the player
+     * @param damage the damage of each hit of the player
+     * @param enemyLife the life of the enemy
+     * @param enemyAttack the damage of each answer of the enemy
+     * @return the index of the fight in the batch
+     */
+    public int add(final double life, final double damage, final double enemyLife, final double enemyAttack) {
+        if (size == playerLife.length) {
+            grow();
+        }
+        playerLife[size] = life;
+        playerDamage[size] = damage;
+        this.enemyLife[size] = enemyLife;
+        enemyDamage[size] = enemyAttack;
+        outcomes[size] = null;
+        return size++;
+    }
+
+    /**
+     * Removes every fight, keeping the arrays for the next ones.
+     */
+    public void clear() {
+        Arrays.fill(outcomes, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * @return the number of fights in the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param fight the index of a fight
+     * @return how the fight ended
+     * @throws IllegalStateException if the fight was not resolved
+     */
+    public CombatOutcome outcome(final int fight) {
+        return resolved(fight);
+    }
+
+    /**
+     * @param fight the index of a fight
+     * @return the number of hits the player dealt
+     * @throws IllegalStateException if the fight was not resolved
+     */
+    public int turns(final int fight) {
+        resolved(fight);
+        return turns[fight];
+    }
+
+    /**
+     * @param fight the index of a fight
+     * @return the life the player is left with, which is not positive if the player died
+     * @throws IllegalStateException if the fight was not resolved
+     */
+    public double remainingPlayerLife(final int fight) {
+        resolved(fight);
+        return remainingPlayerLife[fight];
+    }
+
+    /**
+     * @param fight the index of a fight
+     * @return the life the enemy is left with, 0 if it died
+     * @throws IllegalStateException if the fight was not resolved
+     */
+    public double remainingEnemyLife(final int fight) {
+        resolved(fight);
+        return remainingEnemyLife[fight];
+    }
+
+    double playerLife(final int fight) {
+        return playerLife[fight];
+    }
+
+    double playerDamage(final int fight) {
+        return playerDamage[fight];
+    }
+
+    double enemyLife(final int fight) {
+        return enemyLife[fight];
+    }
+
+    double enemyDamage(final int fight) {
+        return enemyDamage[fight];
+    }
+
+    void resolve(final int fight, final CombatOutcome outcome, final int turnCount, final double playerLeft,
+            final double enemyLeft) {
+        outcomes[fight] = outcome;
+        turns[fight] = turnCount;
+        remainingPlayerLife[fight] = playerLeft;
+        remainingEnemyLife[fight] = enemyLeft;
+    }
+
+    private CombatOutcome resolved(final int fight) {
+        if (fight < 0 || fight >= size) {
+            throw new IndexOutOfBoundsException(fight);
+        }
+        if (outcomes[fight] == null) {
+            throw new IllegalStateException("Fight " + fight + " was not resolved");
+        }
+        return outcomes[fight];
+    }
+
+    private void grow() {
+        final int capacity = playerLife.length * 2;
+        playerLife = Arrays.copyOf(playerLife, capacity);
+        playerDamage = Arrays.copyOf(playerDamage, capacity);
+        enemyLife = Arrays.copyOf(enemyLife, capacity);
+        enemyDamage = Arrays.copyOf(enemyDamage, capacity);
+        outcomes = Arrays.copyOf(outcomes, capacity);
+        turns = Arrays.copyOf(turns, capacity);
+        remainingPlayerLife = Arrays.copyOf(remainingPlayerLife, capacity);
+        remainingEnemyLife = Arrays.copyOf(remainingEnemyLife, capacity);
+    }
+}
@@ -0,0 +1,13 @@
+package it.unibo.templetower.model;
+
+/**
+ * How a fight between the player and an enemy ended.
+ */
+public enum CombatOutcome {
+    /** The player killed the enemy. */
+    PLAYER_WON,
+    /** The enemy killed the player. */
+    ENEMY_WON,
+    /** Nobody died: the fight goes on, or it reached the turn limit of the resolver. */
+    UNDECIDED
+}
@@ -0,0 +1,120 @@
+package it.unibo.templetower.model;
+
+/**
+ * Resolves whole fights at once, following the rules of the combat turns of the game:
+ * every turn the enemy strikes the player and then the player strikes the enemy, until one of them dies.
+ * The player wins when its strike kills the enemy, even if the strike of the enemy in the same turn
+ * took its last life point.
+ * Since every hit of a fight deals the same damage, the number of turns each side needs to kill the other
+ * is computed in closed form instead of playing the fight turn by turn.
+ * A fight is played turn by turn only when a life is within rounding error of a multiple of the damage,
+ * where repeated subtractions may not end on the same turn as the division, so that the results are always
+ * those of the step by step rules.
+ */
+public final class CombatResolver {
+    // Relative distance from a whole number of hits under which the closed form is not trusted
+    private static final double ROUNDING_TOLERANCE = 1e-9;
+
+    private final int maxTurns;
+
+    /**
+     * Creates a resolver.
+     *
+     * @param maxTurns the number of turns after which fights are undecided,
+     *     so that fights where nobody deals damage end
+     * @throws IllegalArgumentException if the number of turns is not positive
+     */
+    public CombatResolver(final int maxTurns) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("The turn limit must be positive");
+        }
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Resolves every fight of a batch.
+     *
+     * @param batch the fights
+     */
+    public void resolve(final CombatBatch batch) {
+        for (int fight = 0; fight < batch.size(); fight++) {
+            if (!resolveClosedForm(batch, fight)) {
+                resolveStepByStep(batch, fight);
+            }
+        }
+    }
+
+    /**
+     * Resolves every fight of a batch turn by turn, as the game plays them.
+     * This is the reference the closed form is checked against, and is much slower than {@link #resolve(CombatBatch)}.
+     *
+     * @param batch the fights
+     */
+    public void resolveStepByStep(final CombatBatch batch) {
+        for (int fight = 0; fight < batch.size(); fight++) {
+            resolveStepByStep(batch, fight);
+        }
+    }
+
+    private boolean resolveClosedForm(final CombatBatch batch, final int fight) {
+        final double life = batch.playerLife(fight);
+        final double damage = batch.playerDamage(fight);
+        final double enemyLife = batch.enemyLife(fight);
+        final double enemyDamage = batch.enemyDamage(fight);
+        final long kill = hitsToKill(enemyLife, damage);
+        final long death = hitsToKill(life, enemyDamage);
+        if (kill < 0 || death < 0) {
+            return false;
+        }
+        // The death of the player is only checked after its strike, so it wins a tie
+        if (kill <= death && kill <= maxTurns) {
+            batch.resolve(fight, CombatOutcome.PLAYER_WON, (int) kill, life - kill * enemyDamage, 0);
+        } else if (death < kill && death <= maxTurns) {
+            batch.resolve(fight, CombatOutcome.ENEMY_WON, (int) death, life - death * enemyDamage,
+                Math.max(0, enemyLife - death * damage));
+        } else {
+            batch.resolve(fight, CombatOutcome.UNDECIDED, maxTurns, life - maxTurns * enemyDamage,
+                Math.max(0, enemyLife - maxTurns * damage));
+        }
+        return true;
+    }
+
+    /*
+     * Returns the number of hits bringing a life to zero, more than the turn limit if it is never reached,
+     * or -1 if rounding makes the closed form ambiguous.
+     */
+    private long hitsToKill(final double life, final double damage) {
+        if (life <= 0) {
+            return 1;
+        }
+        if (damage <= 0) {
+            return maxTurns + 1L;
+        }
+        final double hits = life / damage;
+        final double whole = Math.rint(hits);
+        if (Math.fma(whole, damage, -life) != 0 && Math.abs(hits - whole) <= hits * ROUNDING_TOLERANCE) {
+            return -1;
+        }
+        return hits > maxTurns ? maxTurns + 1L : (long) Math.ceil(hits);
+    }
+
+    private void resolveStepByStep(final CombatBatch batch, final int fight) {
+        final double damage = batch.playerDamage(fight);
+        final double enemyDamage = batch.enemyDamage(fight);
+        double life = batch.playerLife(fight);
+        double enemyLife = batch.enemyLife(fight);
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            life -= enemyDamage;
+            enemyLife = Math.max(0, enemyLife - damage);
+            if (enemyLife <= 0) {
+                batch.resolve(fight, CombatOutcome.PLAYER_WON, turn, life, enemyLife);
+                return;
+            }
+            if (life <= 0) {
+                batch.resolve(fight, CombatOutcome.ENEMY_WON, turn, life, enemyLife);
+                return;
+            }
+        }
+        batch.resolve(fight, CombatOutcome.UNDECIDED, maxTurns, life, enemyLife);
+    }
+}
@@ -3,7 +3,7 @@ package it.unibo.templetower.model;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 
 import it.unibo.templetower.utils.Pair;
 
@@ -29,7 +29,7 @@ public record Enemy(
     String spritePath) {
     /**
      * Compact constructor for validation.
-     * Ensures that no null values are passed to the record and creates defensive copies of mutable objects.
+     * Ensures that no null values are passed to the record and keeps unmodifiable copies of the attacks and multipliers.
      * @throws IllegalArgumentException if any parameter is null
      */
     public Enemy {
@@ -42,26 +42,30 @@ public record Enemy(
         if (level < 0) {
             throw new IllegalArgumentException("Level cannot be negative");
         }
-        // Create defensive copies of mutable objects
-        attacks = new ArrayList<>(attacks);
-        damageMultipliers = new HashMap<>(damageMultipliers);
+        // Unmodifiable copies can be returned by the accessors without copying them on every hit
+        attacks = Collections.unmodifiableList(new ArrayList<>(attacks));
+        damageMultipliers = damageMultipliers instanceof AttackMultipliers
+            ? damageMultipliers
+            : new AttackMultipliers(damageMultipliers);
     }
 
     /**
-     * Returns a defensive copy of the attacks list.
-     * @return a new list containing the attacks
+     * Gets the damage multiplier of an attack without hashing its id.
+     *
+     * @param attackId the dense id of the attack, as returned by {@link AttackIndex#intern(String)}
+     * @return the multiplier applied to the damage of the attack, 1 if the enemy has none for it
      */
-    @Override
-    public List<Pair<String, Double>> attacks() {
-        return new ArrayList<>(attacks);
+    public double damageMultiplier(final int attackId) {
+        return ((AttackMultipliers) damageMultipliers).multiplier(attackId);
     }
 
     /**
-     * Returns a defensive copy of the damage multipliers map.
-     * @return a new map containing the damage multipliers
+     * Gets the damage the enemy deals each turn: enemies fight with their first attack,
+     * and those without attacks deal no damage.
+     *
+     * @return the damage of the attack the enemy fights with
      */
-    @Override
-    public Map<String, Double> damageMultipliers() {
-        return new HashMap<>(damageMultipliers);
+    public double attackDamage() {
+        return attacks.isEmpty() ? 0 : attacks.get(0).getY();
     }
 }
@@ -0,0 +1,95 @@
+package it.unibo.templetower.model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable index of the enemies of a floor by level.
+ * Enemies are sorted by level once and grouped by distinct level, so that the enemies closest to a
+ * target level are found with a binary search instead of a scan of the whole list.
+ */
+public final class EnemyLevelIndex {
+    private static final EnemyLevelIndex EMPTY = new EnemyLevelIndex(List.of());
+
+    private final Enemy[] enemies;
+    private final int[] levels;
+    private final int[] groupStarts;
+
+    /**
+     * Builds the index of the given enemies.
+     *
+     * @param enemyList the enemies to index
+     */
+    public EnemyLevelIndex(final List<Enemy> enemyList) {
+        // The sort is stable, so enemies of the same level keep their declaration order
+        this.enemies = enemyList.stream().sorted(Comparator.comparingInt(Enemy::level)).toArray(Enemy[]::new);
+        final int distinct = (int) enemyList.stream().mapToInt(Enemy::level).distinct().count();
+        this.levels = new int[distinct];
+        this.groupStarts = new int[distinct + 1];
+        int group = -1;
+        for (int i = 0; i < enemies.length; i++) {
+            if (group < 0 || enemies[i].level() != levels[group]) {
+                group++;
+                levels[group] = enemies[i].level();
+                groupStarts[group] = i;
+            }
+        }
+        groupStarts[distinct] = enemies.length;
+    }
+
+    /**
+     * @return an index without enemies
+     */
+    public static EnemyLevelIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return true if the index holds no enemies
+     */
+    public boolean isEmpty() {
+        return enemies.length == 0;
+    }
+
+    /**
+     * Picks one of the enemies whose level is closest to a target.
+     * When several enemies are equally close, one of them is chosen uniformly.
+     *
+     * @param target the target level
+     * @param random the source of randomness, only used to break ties
+     * @return the chosen enemy
+     * @throws IllegalStateException if the index holds no enemies
+     */
+    public Enemy closest(final int target, final RandomGenerator random) {
+        if (isEmpty()) {
+            throw new IllegalStateException("Cannot pick an enemy from an empty floor");
+        }
+        final int position = Arrays.binarySearch(levels, target);
+        int first;
+        int last;
+        if (position >= 0) {
+            first = position;
+            last = position;
+        } else {
+            final int above = -position - 1;
+            final int below = above - 1;
+            first = below >= 0 ? below : above;
+            last = above < levels.length ? above : below;
+            if (first != last) {
+                final int belowDistance = target - levels[below];
+                final int aboveDistance = levels[above] - target;
+                if (belowDistance < aboveDistance) {
+                    last = below;
+                } else if (aboveDistance < belowDistance) {
+                    first = above;
+                }
+            }
+        }
+        // Adjacent groups are contiguous in the sorted array
+        final int start = groupStarts[first];
+        final int count = groupStarts[last + 1] - start;
+        return enemies[count == 1 ? start : start + random.nextInt(count)];
+    }
+}
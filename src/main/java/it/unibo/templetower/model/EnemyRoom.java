@@ -3,10 +3,13 @@ package it.unibo.templetower.model;
 /**
  * Represents a room in the game that contains an enemy.
  * The enemy room contains an enemy that the player must defeat to progress.
+ * Exchanging blows allocates nothing: life and damage are kept as primitives and multipliers are read
+ * from the multiplier row of the enemy.
  */
 public final class EnemyRoom implements RoomBehavior {
     private final Enemy enemy;
-    private Double lifePoints;
+    private final double attackDamage;
+    private double lifePoints;
 
     /**
      * Constructs an enemy room with the specified enemy.
@@ -16,6 +19,7 @@ public final class EnemyRoom implements RoomBehavior {
     public EnemyRoom(final Enemy enemy) {
         this.enemy = enemy;
         this.lifePoints = enemy.health();
+        this.attackDamage = enemy.attackDamage();
     }
 
     /**
@@ -23,11 +27,8 @@ public final class EnemyRoom implements RoomBehavior {
      * 
      * @param damage the amount of damage to be dealt to the enemy
      */
-    public void takeDamage(final Double damage) {
-        this.lifePoints = this.lifePoints - damage;
-        if (this.lifePoints < 0) {
-            this.lifePoints = 0.0;
-        }
+    public void takeDamage(final double damage) {
+        this.lifePoints = Math.max(0, this.lifePoints - damage);
     }
 
     /**
@@ -35,13 +36,20 @@ public final class EnemyRoom implements RoomBehavior {
      * 
      * @param attackId
      * 
-     * @return moltiplicator for the weapon
+     * @return moltiplicator for the weapon, 1 for attacks that were never interned
      */
     public double calculateMulti(final String attackId) {
-        if (enemy.damageMultipliers().containsKey(attackId)) {
-            return enemy.damageMultipliers().get(attackId);
-        }
-        return 1.0;
+        return calculateMulti(AttackIndex.find(attackId));
+    }
+
+    /**
+     * Calculates the multiplier of an attack from its dense id.
+     *
+     * @param attackId the id of the attack, as returned by {@link AttackIndex#intern(String)}
+     * @return moltiplicator for the weapon
+     */
+    public double calculateMulti(final int attackId) {
+        return enemy.damageMultiplier(attackId);
     }
 
     /**
@@ -57,7 +65,7 @@ public final class EnemyRoom implements RoomBehavior {
         if (direction == 1) {
             player.attack(this);
         } else {
-            player.takeDamage(this.enemy.attacks().get(0).getY());
+            player.takeDamage(this.attackDamage);
         }
     }
 
@@ -67,7 +75,7 @@ public final class EnemyRoom implements RoomBehavior {
      * @return the attack damage value
      */
     public double getAttackDamage() {
-        return this.enemy.attacks().get(0).getY();
+        return this.attackDamage;
     }
 
     /**
@@ -75,7 +83,7 @@ public final class EnemyRoom implements RoomBehavior {
      * 
      * @return the enemy's life points
      */
-    public Double getLifePoints() {
+    public double getLifePoints() {
         return this.lifePoints;
     }
 
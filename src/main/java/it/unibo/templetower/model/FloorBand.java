@@ -0,0 +1,89 @@
+package it.unibo.templetower.model;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unibo.templetower.utils.Lazy;
+
+/**
+ * Contents of the floors of the active level band of a single run.
+ * Lazy floors are read the first time the run needs them and kept until the run releases them, without
+ * touching the tower snapshot, which can be shared by other runs. Eager floors are always in memory and
+ * are used as they are.
+ */
+final class FloorBand {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FloorBand.class);
+    private final Map<FloorData, Loaded> loaded = new IdentityHashMap<>();
+
+    /**
+     * @param floor a floor of the tower
+     * @return the enemies of the floor indexed by level, reading them if needed
+     */
+    EnemyLevelIndex enemyIndex(final FloorData floor) {
+        return floor.contents().isLoaded() ? floor.enemyIndex() : holder(floor).enemyIndex().get();
+    }
+
+    /**
+     * @param floor a floor of the tower
+     * @return the weapons of the floor, reading them if needed
+     */
+    Optional<List<Weapon>> weapons(final FloorData floor) {
+        return floor.contents().isLoaded() ? floor.weapons() : holder(floor).weapons().get();
+    }
+
+    /**
+     * @param floor a floor of the tower
+     * @return true if both enemies and weapons of the floor are in memory for this run
+     */
+    synchronized boolean isLoaded(final FloorData floor) {
+        if (floor.contents().isLoaded()) {
+            return true;
+        }
+        final Loaded holder = loaded.get(floor);
+        return holder != null && holder.enemyIndex().isLoaded() && holder.weapons().isLoaded();
+    }
+
+    /**
+     * Reads a floor in the background if it is not in memory yet.
+     * Failures are only logged, they are reported again when the floor is accessed.
+     *
+     * @param floor a floor of the tower
+     * @param executor the executor running the read
+     */
+    void prefetch(final FloorData floor, final Executor executor) {
+        if (isLoaded(floor)) {
+            return;
+        }
+        final Loaded holder = holder(floor);
+        executor.execute(() -> {
+            try {
+                holder.enemyIndex().get();
+                holder.weapons().get();
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                LOGGER.warn("Floor prefetch failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Drops the contents of a floor read by this run, which are read again on next access.
+     *
+     * @param floor a floor of the tower
+     */
+    synchronized void release(final FloorData floor) {
+        loaded.remove(floor);
+    }
+
+    private synchronized Loaded holder(final FloorData floor) {
+        return loaded.computeIfAbsent(floor, key -> new Loaded(
+            new Lazy<>(key.contents()::enemyIndex), new Lazy<>(key.contents()::weapons)));
+    }
+
+    private record Loaded(Lazy<EnemyLevelIndex> enemyIndex, Lazy<Optional<List<Weapon>>> weapons) { }
+}
@@ -0,0 +1,105 @@
+package it.unibo.templetower.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Enemies and weapons of a floor type, together with the index of the enemies by level.
+ * Contents can be eager, when they are loaded together with the floor, or lazy, when they are read
+ * each time they are accessed. Lazy contents hold no data, so that a tower shared by several runs does not
+ * keep its floors in memory: each run caches the floors of its active level band in a {@link FloorBand}.
+ * Eager contents are equal when they hold the same enemies and weapons, lazy contents are only equal to
+ * themselves, so that comparing contents never reads them.
+ */
+public final class FloorContents {
+    private final Supplier<Optional<List<Enemy>>> enemyLoader;
+    private final Supplier<Optional<List<Weapon>>> weaponLoader;
+    private final EnemyLevelIndex loadedIndex;
+
+    private FloorContents(final Supplier<Optional<List<Enemy>>> enemyLoader,
+            final Supplier<Optional<List<Weapon>>> weaponLoader, final EnemyLevelIndex loadedIndex) {
+        this.enemyLoader = enemyLoader;
+        this.weaponLoader = weaponLoader;
+        this.loadedIndex = loadedIndex;
+    }
+
+    /**
+     * Creates contents that are already loaded.
+     *
+     * @param enemies optional list of enemies, null is treated as empty
+     * @param weapons optional list of weapons, null is treated as empty
+     * @return the loaded contents
+     */
+    public static FloorContents of(final Optional<List<Enemy>> enemies, final Optional<List<Weapon>> weapons) {
+        final Optional<List<Enemy>> loadedEnemies = Optional.ofNullable(enemies).orElse(Optional.empty());
+        final Optional<List<Weapon>> loadedWeapons = Optional.ofNullable(weapons).orElse(Optional.empty());
+        return new FloorContents(() -> loadedEnemies, () -> loadedWeapons, indexOf(loadedEnemies));
+    }
+
+    /**
+     * Creates contents that are read on every access.
+     *
+     * @param enemyLoader the supplier reading the enemies of the floor
+     * @param weaponLoader the supplier reading the weapons of the floor
+     * @return the lazy contents
+     */
+    public static FloorContents lazy(final Supplier<Optional<List<Enemy>>> enemyLoader,
+            final Supplier<Optional<List<Weapon>>> weaponLoader) {
+        return new FloorContents(Objects.requireNonNull(enemyLoader), Objects.requireNonNull(weaponLoader), null);
+    }
+
+    /**
+     * @return the enemies of the floor, reading them if the contents are lazy
+     */
+    public Optional<List<Enemy>> enemies() {
+        return enemyLoader.get();
+    }
+
+    /**
+     * @return the weapons of the floor, reading them if the contents are lazy
+     */
+    public Optional<List<Weapon>> weapons() {
+        return weaponLoader.get();
+    }
+
+    /**
+     * @return the enemies of the floor indexed by level, reading and indexing them if the contents are lazy
+     */
+    public EnemyLevelIndex enemyIndex() {
+        return isLoaded() ? loadedIndex : indexOf(enemies());
+    }
+
+    /**
+     * @return true if the contents are held in memory, which is the case of eager contents only
+     */
+    public boolean isLoaded() {
+        return loadedIndex != null;
+    }
+
+    private static EnemyLevelIndex indexOf(final Optional<List<Enemy>> enemies) {
+        return enemies.map(EnemyLevelIndex::new).orElse(EnemyLevelIndex.empty());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof FloorContents other && isLoaded() && other.isLoaded()
+            && enemies().equals(other.enemies())
+            && weapons().equals(other.weapons());
+    }
+
+    @Override
+    public int hashCode() {
+        return isLoaded() ? Objects.hash(enemies(), weapons()) : System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return isLoaded() ? "FloorContents[enemies=" + enemies() + ", weapons=" + weapons() + "]"
+            : "FloorContents[lazy]";
+    }
+}
@@ -7,31 +7,41 @@ import it.unibo.templetower.utils.Pair;
 
 /**
  * Record representing a floor's data in the game.
- * Contains information about the floor's name, sprite, enemies, weapons, spawn range, spawn weight and visibility.
+ * Contains information about the floor's name, sprite, enemies, weapons, spawn range, spawn weight, visibility,
+ * the weights of the room types generated on it and the number of its rooms.
+ * Enemies and weapons are held by {@link FloorContents} and may be loaded only when first accessed.
  * 
  * @param floorName the name of the floor
  * @param spritePath path to the floor's sprite resource
- * @param enemies optional list of enemies that can spawn on this floor
- * @param weapons optional list of weapons that can be found on this floor
+ * @param contents the enemies and weapons of the floor
  * @param spawningRange pair containing min and max levels for floor generation
  * @param spawnWeight weight value affecting how likely this floor is to be selected during generation
  * @param visibility probability (0 to 1) of viewing the floor's tiles
+ * @param roomWeights relative weights of the room types generated on the floor
+ * @param roomCount number of rooms generated on the floor, including the stairs
  */
 public record FloorData(
     String floorName,
     String spritePath,
-    Optional<List<Enemy>> enemies,
-    Optional<List<Weapon>> weapons,
+    FloorContents contents,
     Pair<Integer, Integer> spawningRange,
     int spawnWeight,
-    double visibility) {
+    double visibility,
+    RoomWeights roomWeights,
+    int roomCount) {
+    /** Number of rooms of the floors that do not set it. */
+    public static final int DEFAULT_ROOM_COUNT = 7;
+    /** Maximum number of rooms of a floor. */
+    public static final int MAX_ROOM_COUNT = 512;
+
     /**
      * Compact constructor for validation.
-     * Ensures that required parameters are not null and spawnWeight is positive.
-     * @throws IllegalArgumentException if required parameters are null or if spawnWeight is less than 1
+     * Ensures that required parameters are not null, spawnWeight is positive and roomCount is in range.
+     * @throws IllegalArgumentException if required parameters are null, if spawnWeight is less than 1
+     *         or if roomCount is not between 1 and {@link #MAX_ROOM_COUNT}
      */
     public FloorData {
-        if (floorName == null || spritePath == null || spawningRange == null) {
+        if (floorName == null || spritePath == null || contents == null || spawningRange == null || roomWeights == null) {
             throw new IllegalArgumentException("Required floor parameters cannot be null");
         }
         if (spawnWeight < 1) {
@@ -40,8 +50,73 @@ public record FloorData(
         if (visibility < 0.0 || visibility > 1.0) {
             throw new IllegalArgumentException("Visibility must be between 0 and 1");
         }
-        // If enemies or weapons are null, convert to Optional.empty()
-        enemies = Optional.ofNullable(enemies).orElse(Optional.empty());
-        weapons = Optional.ofNullable(weapons).orElse(Optional.empty());
+        if (roomCount < 1 || roomCount > MAX_ROOM_COUNT) {
+            throw new IllegalArgumentException("Room count must be between 1 and " + MAX_ROOM_COUNT);
+        }
+    }
+
+    /**
+     * Creates a floor generating the {@link #DEFAULT_ROOM_COUNT default number} of rooms
+     * with the {@link RoomWeights#DEFAULT default weights}.
+     *
+     * @param floorName the name of the floor
+     * @param spritePath path to the floor's sprite resource
+     * @param contents the enemies and weapons of the floor
+     * @param spawningRange pair containing min and max levels for floor generation
+     * @param spawnWeight weight value affecting how likely this floor is to be selected during generation
+     * @param visibility probability (0 to 1) of viewing the floor's tiles
+     */
+    public FloorData(final String floorName, final String spritePath, final FloorContents contents,
+            final Pair<Integer, Integer> spawningRange, final int spawnWeight, final double visibility) {
+        this(floorName, spritePath, contents, spawningRange, spawnWeight, visibility, RoomWeights.DEFAULT,
+            DEFAULT_ROOM_COUNT);
+    }
+
+    /**
+     * Creates a floor whose enemies and weapons are already loaded, generating rooms with the default weights.
+     *
+     * @param floorName the name of the floor
+     * @param spritePath path to the floor's sprite resource
+     * @param enemies optional list of enemies that can spawn on this floor, null is treated as empty
+     * @param weapons optional list of weapons that can be found on this floor, null is treated as empty
+     * @param spawningRange pair containing min and max levels for floor generation
+     * @param spawnWeight weight value affecting how likely this floor is to be selected during generation
+     * @param visibility probability (0 to 1) of viewing the floor's tiles
+     */
+    public FloorData(final String floorName, final String spritePath, final Optional<List<Enemy>> enemies,
+            final Optional<List<Weapon>> weapons, final Pair<Integer, Integer> spawningRange,
+            final int spawnWeight, final double visibility) {
+        this(floorName, spritePath, FloorContents.of(enemies, weapons), spawningRange, spawnWeight, visibility);
+    }
+
+    /**
+     * @return optional list of enemies that can spawn on this floor, loading them if needed
+     */
+    public Optional<List<Enemy>> enemies() {
+        return contents.enemies();
+    }
+
+    /**
+     * @return the enemies that can spawn on this floor indexed by level, loading them if needed
+     */
+    public EnemyLevelIndex enemyIndex() {
+        return contents.enemyIndex();
+    }
+
+    /**
+     * @return optional list of weapons that can be found on this floor, loading them if needed
+     */
+    public Optional<List<Weapon>> weapons() {
+        return contents.weapons();
+    }
+
+    /**
+     * Checks whether the floor can be spawned at a level.
+     *
+     * @param level the level to check
+     * @return true if the level is inside the spawning range of the floor
+     */
+    public boolean covers(final int level) {
+        return level >= spawningRange.getX() && level <= spawningRange.getY();
     }
 }
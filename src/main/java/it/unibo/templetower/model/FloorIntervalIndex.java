@@ -0,0 +1,103 @@
+package it.unibo.templetower.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import it.unibo.templetower.utils.WeightedSampler;
+
+/**
+ * Index answering which floor types can spawn at a level.
+ * The spawning ranges of the floors split the levels into segments where the set of eligible floors
+ * does not change; for each segment the eligible floors are stored in declaration order together with
+ * an alias sampler over their spawn weights. Finding the segment of a level is a binary search and
+ * picking a floor by weight is O(1), regardless of the number of floors and levels.
+ */
+final class FloorIntervalIndex {
+    private final int[] segmentStarts;
+    private final FloorData[][] segmentFloors;
+    private final List<Optional<WeightedSampler<FloorData>>> samplers;
+
+    /**
+     * Builds the index of the given floors.
+     *
+     * @param floors the floor types of the tower
+     */
+    FloorIntervalIndex(final List<FloorData> floors) {
+        final SortedSet<Integer> boundaries = new TreeSet<>();
+        for (final FloorData floor : floors) {
+            if (floor.spawningRange().getX() <= floor.spawningRange().getY()) {
+                boundaries.add(floor.spawningRange().getX());
+                boundaries.add(floor.spawningRange().getY() + 1);
+            }
+        }
+        this.segmentStarts = boundaries.stream().mapToInt(Integer::intValue).toArray();
+        this.segmentFloors = new FloorData[segmentStarts.length][];
+        this.samplers = new ArrayList<>(segmentStarts.length);
+
+        // Sweep the segments keeping the active floors sorted by declaration index
+        final Integer[] byFirstLevel = sortedIndexes(floors, floor -> floor.spawningRange().getX());
+        final Integer[] byLastLevel = sortedIndexes(floors, floor -> floor.spawningRange().getY());
+        final TreeSet<Integer> active = new TreeSet<>();
+        int nextStart = 0;
+        int nextEnd = 0;
+        for (int segment = 0; segment < segmentStarts.length; segment++) {
+            final int level = segmentStarts[segment];
+            while (nextStart < byFirstLevel.length && floors.get(byFirstLevel[nextStart]).spawningRange().getX() <= level) {
+                active.add(byFirstLevel[nextStart]);
+                nextStart++;
+            }
+            while (nextEnd < byLastLevel.length && floors.get(byLastLevel[nextEnd]).spawningRange().getY() < level) {
+                active.remove(byLastLevel[nextEnd]);
+                nextEnd++;
+            }
+            final FloorData[] eligible = active.stream().map(floors::get).toArray(FloorData[]::new);
+            segmentFloors[segment] = eligible;
+            samplers.add(eligible.length == 0 ? Optional.empty()
+                : Optional.of(new WeightedSampler<>(List.of(eligible), FloorData::spawnWeight)));
+        }
+    }
+
+    private static Integer[] sortedIndexes(final List<FloorData> floors, final ToIntFunction<FloorData> key) {
+        return IntStream.range(0, floors.size())
+            .filter(index -> floors.get(index).spawningRange().getX() <= floors.get(index).spawningRange().getY())
+            .boxed()
+            .sorted(Comparator.comparingInt(index -> key.applyAsInt(floors.get(index))))
+            .toArray(Integer[]::new);
+    }
+
+    /**
+     * Gets the floors that can spawn at a level.
+     *
+     * @param level the level
+     * @return the eligible floors, in declaration order
+     */
+    List<FloorData> eligible(final int level) {
+        final int segment = segmentOf(level);
+        return segment < 0 ? List.of() : List.of(segmentFloors[segment]);
+    }
+
+    /**
+     * Picks one of the floors that can spawn at a level, with probability proportional to its spawn weight.
+     *
+     * @param level the level
+     * @param random the source of randomness
+     * @return the selected floor, or empty if no floor can spawn at the level
+     */
+    Optional<FloorData> select(final int level, final RandomGenerator random) {
+        final int segment = segmentOf(level);
+        return segment < 0 ? Optional.empty() : samplers.get(segment).map(sampler -> sampler.sample(random));
+    }
+
+    private int segmentOf(final int level) {
+        final int position = Arrays.binarySearch(segmentStarts, level);
+        return position >= 0 ? position : -position - 2;
+    }
+}
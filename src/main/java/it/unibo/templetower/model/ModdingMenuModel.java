@@ -32,21 +32,37 @@ import org.slf4j.LoggerFactory;
  */
 public class ModdingMenuModel {
     private static final Logger LOGGER = LoggerFactory.getLogger(ModdingMenuModel.class);
-    private static final String USER_TOWERS_DIR = System.getProperty("user.home") + File.separator + "temple-tower-mods";
+    private static final String DEFAULT_USER_TOWERS_DIR = System.getProperty("user.home") + File.separator
+        + "temple-tower-mods";
     private static final int DEFAULT_MAX_SEARCH_DEPTH = 3;
     private static final String TOWER_CONFIG_FILENAME = "tower.json";
+    private final String userTowersDir;
     private final List<String> importedTowers;
     private final Map<String, Pair<String, String>> towerInfo = new HashMap<>();
     private final GameDataManager gameDataManager = GameDataManager.getInstance();
+    private final TowerMetadataIndex metadataIndex;
 
     /**
      * Constructs a new ModdingMenuModel and initializes the user towers directory.
      */
     public ModdingMenuModel() {
+        this(DEFAULT_USER_TOWERS_DIR);
+    }
+
+    /**
+     * Constructs a new ModdingMenuModel that keeps its towers in the given directory.
+     *
+     * @param userTowersDir the directory where imported towers are stored
+     */
+    public ModdingMenuModel(final String userTowersDir) {
+        this.userTowersDir = userTowersDir;
         this.importedTowers = new ArrayList<>();
         if (!initializeUserDirectory()) {
             throw new IllegalStateException("Failed to create user directory");
         }
+        this.metadataIndex = new TowerMetadataIndex(Paths.get(userTowersDir));
+        // Imported towers are compiled when they are validated, so that the game loads them from their image
+        gameDataManager.setCompiledTowersDirectory(Paths.get(userTowersDir));
         loadExistingTowers();
     }
 
@@ -64,7 +80,7 @@ public class ModdingMenuModel {
         }
 
         final String towerName = sourceFolder.getName();
-        final Path destinationPath = Paths.get(USER_TOWERS_DIR, towerName);
+        final Path destinationPath = Paths.get(userTowersDir, towerName);
 
         // Check if tower already exists
         if (Files.exists(destinationPath)) {
@@ -75,7 +91,8 @@ public class ModdingMenuModel {
         copyFolder(sourceFolder.toPath(), destinationPath);
 
         // Validate the tower after copying
-        if (!validateTower(destinationPath)) {
+        final Optional<Tower> tower = validateTower(destinationPath);
+        if (tower.isEmpty()) {
             FileUtils.deleteDirectory(destinationPath.toFile());
             return false;
         }
@@ -85,6 +102,8 @@ public class ModdingMenuModel {
             final File towerJson = new File(destinationPath.toFile(), TOWER_CONFIG_FILENAME);
             if (towerJson.exists()) {
                 final Pair<String, String> info = gameDataManager.loadTowerInfo(towerJson.getPath());
+                metadataIndex.put(towerName, towerJson.toPath(), tower.get());
+                metadataIndex.save();
                 towerInfo.put(towerName, info);
                 importedTowers.add(towerName);
                 return true;
@@ -109,12 +128,12 @@ public class ModdingMenuModel {
             return false;
         }
         final String towerName = zipFile.getName().replaceFirst("[.][^.]+$", "");
-        final Path destinationPath = Paths.get(USER_TOWERS_DIR, towerName);
+        final Path destinationPath = Paths.get(userTowersDir, towerName);
         if (Files.exists(destinationPath)) {
             return false;
         }
         // Create temporary directory for extraction
-        final Path tempDestPath = Paths.get(USER_TOWERS_DIR, towerName + "_temp");
+        final Path tempDestPath = Paths.get(userTowersDir, towerName + "_temp");
         try {
             Files.createDirectories(tempDestPath);
         } catch (IOException e) {
@@ -122,7 +141,10 @@ public class ModdingMenuModel {
             return false;
         }
 
-        if (!extractZipFile(zipFile, tempDestPath) || !validateTower(tempDestPath)) {
+        final Optional<Tower> tower = extractZipFile(zipFile, tempDestPath)
+            ? validateTower(tempDestPath)
+            : Optional.empty();
+        if (tower.isEmpty()) {
             try {
                 FileUtils.deleteDirectory(tempDestPath.toFile());
             } catch (IOException e) {
@@ -140,6 +162,8 @@ public class ModdingMenuModel {
             }
             final Pair<String, String> info = gameDataManager.loadTowerInfo(towerJson.getPath());
             Files.move(tempDestPath, destinationPath, StandardCopyOption.REPLACE_EXISTING);
+            metadataIndex.put(towerName, destinationPath.resolve(TOWER_CONFIG_FILENAME), tower.get());
+            metadataIndex.save();
             towerInfo.put(towerName, info);
             importedTowers.add(towerName);
             return true;
@@ -202,19 +226,28 @@ public class ModdingMenuModel {
     }
 
     private boolean initializeUserDirectory() {
-        final File userDir = new File(USER_TOWERS_DIR);
+        final File userDir = new File(userTowersDir);
         return userDir.exists() || userDir.mkdirs();
     }
 
+    /*
+     * Lists the installed towers reading their info from the metadata index.
+     * A tower is fully loaded only when it is not indexed yet or its tower.json changed since indexing.
+     */
     private void loadExistingTowers() {
-        final File userDir = new File(USER_TOWERS_DIR);
+        final File userDir = new File(userTowersDir);
         final File[] towers = userDir.listFiles(File::isDirectory);
         if (towers != null) {
             for (final File tower : towers) {
                 try {
                     final File towerJson = new File(tower, TOWER_CONFIG_FILENAME);
                     if (towerJson.exists()) {
-                        final Pair<String, String> info = gameDataManager.loadTowerInfo(towerJson.getPath());
+                        final Optional<TowerMetadata> metadata = metadataIndex
+                            .getIfFresh(tower.getName(), towerJson.toPath())
+                            .or(() -> reindexTower(tower.getName(), towerJson.toPath()));
+                        final Pair<String, String> info = metadata.isPresent()
+                            ? new Pair<>(metadata.get().name(), metadata.get().description())
+                            : gameDataManager.loadTowerInfo(towerJson.getPath());
                         towerInfo.put(tower.getName(), info);
                         importedTowers.add(tower.getName());
                     }
@@ -223,6 +256,21 @@ public class ModdingMenuModel {
                 }
             }
         }
+        metadataIndex.save();
+    }
+
+    /*
+     * Fully loads a tower and stores its metadata in the index, returning empty if the tower is invalid.
+     */
+    private Optional<TowerMetadata> reindexTower(final String towerDirName, final Path towerJson) {
+        try {
+            gameDataManager.loadGameDataFromTower(towerJson.toString());
+            return Optional.of(metadataIndex.put(towerDirName, towerJson, gameDataManager.getTower()));
+        } catch (IllegalArgumentException | IllegalStateException | IOException e) {
+            LOGGER.warn("Tower {} could not be indexed: {}", towerDirName, e.getMessage());
+            metadataIndex.remove(towerDirName);
+            return Optional.empty();
+        }
     }
 
     private void copyFolder(final Path source, final Path destination) throws IOException {
@@ -246,23 +294,23 @@ public class ModdingMenuModel {
      * Validates a tower directory by checking for a valid tower.json configuration.
      *
      * @param towerDir the directory containing the tower files
-     * @return true if the tower is valid, false otherwise
+     * @return Optional containing the loaded tower if it is valid, empty otherwise
      */
-    private boolean validateTower(final Path towerDir) {
+    private Optional<Tower> validateTower(final Path towerDir) {
         if (!Files.exists(towerDir)) {
             LOGGER.error("Tower directory does not exist: {}", towerDir);
-            return false;
+            return Optional.empty();
         }
         final Path towerJsonPath = findTowerJson(towerDir, DEFAULT_MAX_SEARCH_DEPTH);
         if (towerJsonPath == null) {
-            return false;
+            return Optional.empty();
         }
         try {
             gameDataManager.loadGameDataFromTower(towerJsonPath.toString());
-            return true;
+            return Optional.of(gameDataManager.getTower());
         } catch (IllegalArgumentException e) {
             LOGGER.error("Tower validation failed", e);
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -303,7 +351,7 @@ public class ModdingMenuModel {
      * @return String representing the path to the user's towers directory
      */
     public String getUserTowersDirectory() {
-        return USER_TOWERS_DIR;
+        return userTowersDir;
     }
 
     /**
@@ -312,12 +360,13 @@ public class ModdingMenuModel {
      * @throws IOException if there's an error during directory deletion or creation
      */
     public void deleteAllTowers() throws IOException {
-        final File userDir = new File(USER_TOWERS_DIR);
+        final File userDir = new File(userTowersDir);
         if (userDir.exists()) {
             FileUtils.deleteDirectory(userDir);
         }
         this.importedTowers.clear();
         this.towerInfo.clear();
+        this.metadataIndex.clear();
         if (!initializeUserDirectory()) {
             throw new IOException("Failed to reinitialize user directory after deletion");
         }
@@ -331,13 +380,15 @@ public class ModdingMenuModel {
      * @throws IOException if an error occurs during deletion
      */
     public boolean deleteTower(final String towerName) throws IOException {
-        final Path towerPath = Paths.get(USER_TOWERS_DIR, towerName);
+        final Path towerPath = Paths.get(userTowersDir, towerName);
         if (!Files.exists(towerPath)) {
             return false;
         }
         FileUtils.deleteDirectory(towerPath.toFile());
         importedTowers.remove(towerName);
         towerInfo.remove(towerName);
+        metadataIndex.remove(towerName);
+        metadataIndex.save();
         return true;
     }
 
@@ -352,17 +403,27 @@ public class ModdingMenuModel {
     }
 
     /**
-     * Gets the height of a specific tower from its tower.json configuration.
+     * Gets the height of a specific tower from the metadata index.
+     * The tower is fully reloaded only if its tower.json changed since it was indexed.
      *
      * @param towerDirName the name of the tower directory
      * @return the tower height, throws IllegalArgumentException if tower is invalid
      */
     public int getTowerHeight(final String towerDirName) {
-        final Path towerPath = Paths.get(USER_TOWERS_DIR, towerDirName, TOWER_CONFIG_FILENAME);
-        final GameDataManager gameDataManager = GameDataManager.getInstance();
+        final Path towerPath = Paths.get(userTowersDir, towerDirName, TOWER_CONFIG_FILENAME);
+        final Optional<TowerMetadata> metadata = metadataIndex.getIfFresh(towerDirName, towerPath);
+        if (metadata.isPresent()) {
+            return metadata.get().height();
+        }
         try {
             gameDataManager.loadGameDataFromTower(towerPath.toString());
-            return gameDataManager.getTower().height();
+            final int height = metadataIndex.put(towerDirName, towerPath, gameDataManager.getTower()).height();
+            metadataIndex.save();
+            return height;
+        } catch (IOException e) {
+            final String msg = "Invalid tower configuration: " + e.getMessage();
+            LOGGER.error(msg, e);
+            throw new IllegalArgumentException(msg, e);
         } catch (IllegalArgumentException e) {
             final String msg = "Invalid tower configuration: " + e.getMessage();
             LOGGER.error(msg, e);
@@ -378,7 +439,7 @@ public class ModdingMenuModel {
      * @return Optional containing error message if tower is invalid, empty if successful
      */
     public Optional<String> selectTower(final String towerDirName) {
-        final Path towerPath = Paths.get(USER_TOWERS_DIR, towerDirName, TOWER_CONFIG_FILENAME);
+        final Path towerPath = Paths.get(userTowersDir, towerDirName, TOWER_CONFIG_FILENAME);
         if (!Files.exists(towerPath)) {
             return Optional.of("Tower configuration file not found");
         }
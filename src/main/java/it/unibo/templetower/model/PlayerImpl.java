@@ -7,11 +7,19 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import it.unibo.templetower.utils.Pair;
+
 /**
  * Implementation of the Player interface representing a player in the game.
  * The player has weapons, life points, and can move between rooms.
  */
 public final class PlayerImpl implements Player {
+    private static final double STARTING_WEAPON_DAMAGE = 50.0;
+    /**
+     * The weapon every player starts the game with.
+     */
+    public static final Weapon STARTING_WEAPON = new Weapon("Simple sword", 1,
+        new Pair<>("phisical", STARTING_WEAPON_DAMAGE), "tower/tower.json");
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerImpl.class);
     private final List<Weapon> weapon;
@@ -20,6 +28,9 @@ public final class PlayerImpl implements Player {
     private final int experience;
     private int actualWeaponIndex;
     private double difficulty = 1;
+    // Interned attack of the last weapon used, so that attacking does not hash the attack id
+    private Weapon attackWeapon;
+    private int attackId;
 
     /**
      * Creates a new player with initial weapon and room.
@@ -50,14 +61,18 @@ public final class PlayerImpl implements Player {
     @Override
     public void attack(final EnemyRoom enemy) {
         if (enemy != null) {
-            enemy.takeDamage(weapon.get(actualWeaponIndex).attack().getY()
-                    * actualRoom.get().getMoltiplicator(this.weapon.get(actualWeaponIndex)) * difficulty);
+            final Weapon current = weapon.get(actualWeaponIndex);
+            if (current != attackWeapon) {
+                attackWeapon = current;
+                attackId = AttackIndex.intern(current.attack().getX());
+            }
+            enemy.takeDamage(current.attack().getY() * enemy.calculateMulti(attackId) * difficulty);
         }
     }
 
     @Override
     public void takeDamage(final double damage) {
-        LOGGER.info("Player got damaged");
+        LOGGER.debug("Player got damaged");
         this.life = this.life - damage;
     }
 
@@ -79,13 +94,13 @@ public final class PlayerImpl implements Player {
 
     @Override
     public void changeWeapon(final int index) {
-        LOGGER.info("Player changed weapon");
+        LOGGER.debug("Player changed weapon");
         this.actualWeaponIndex = index;
     }
 
     @Override
     public void changeRoom(final Room room) {
-        LOGGER.info("Player changed room: {}", room.getId());
+        LOGGER.debug("Player changed room: {}", room.getId());
         this.actualRoom = Optional.of(room);
     }
 
@@ -121,7 +136,7 @@ public final class PlayerImpl implements Player {
 
     @Override
     public void increaseExperience(final int xp) {
-        LOGGER.info("Player increased experience");
+        LOGGER.debug("Player increased experience");
         this.life += xp;
     }
 
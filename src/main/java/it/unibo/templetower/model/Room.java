@@ -1,5 +1,7 @@
 package it.unibo.templetower.model;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,7 +38,7 @@ public final class Room {
         if (behavior != null) {
             player.changeRoom(this);
         } else {
-            LOGGER.info("The room is empty.");
+            LOGGER.debug("The room is empty.");
         }
     }
 
@@ -50,7 +52,7 @@ public final class Room {
         if (behavior != null) {
             behavior.interact(player, direction);
         } else {
-            LOGGER.info("The room is empty.");
+            LOGGER.debug("The room is empty.");
         }
     }
 
@@ -178,4 +180,19 @@ public final class Room {
         return "";
     }
 
+    /**
+     * Retrieves the sprites shown when the room is entered: the enemy sprite,
+     * or the weapon sprite of a treasure holding a weapon.
+     * 
+     * @return the sprite paths, empty if the room shows no sprite.
+     */
+    public List<String> getSpritePaths() {
+        if (behavior instanceof EnemyRoom enemyRoom) {
+            return List.of(enemyRoom.getEnemy().spritePath());
+        }
+        if (behavior instanceof TreasureRoom treasureRoom && treasureRoom.hasWeapon()) {
+            return List.of(treasureRoom.getWeapon().spritePath());
+        }
+        return List.of();
+    }
 }
@@ -0,0 +1,32 @@
+package it.unibo.templetower.model;
+
+/**
+ * Record holding the relative weights of the room types generated on a floor.
+ * Weights do not need to sum to one: each room type is chosen with probability proportional to its weight.
+ *
+ * @param enemy the weight of rooms holding an enemy
+ * @param empty the weight of empty rooms
+ * @param treasure the weight of treasure rooms
+ * @param trap the weight of trap rooms
+ */
+public record RoomWeights(double enemy, double empty, double treasure, double trap) {
+    /**
+     * Weights used by floors that do not configure their own.
+     */
+    public static final RoomWeights DEFAULT = new RoomWeights(0.5, 0.25, 0.125, 0.125);
+
+    /**
+     * Compact constructor for validation.
+     * @throws IllegalArgumentException if a weight is negative or not finite, or if all weights are zero
+     */
+    public RoomWeights {
+        for (final double weight : new double[] {enemy, empty, treasure, trap}) {
+            if (!Double.isFinite(weight) || weight < 0) {
+                throw new IllegalArgumentException("Room weights must be finite and not negative");
+            }
+        }
+        if (enemy + empty + treasure + trap <= 0) {
+            throw new IllegalArgumentException("At least one room weight must be positive");
+        }
+    }
+}
@@ -2,28 +2,41 @@ package it.unibo.templetower.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
 
 import it.unibo.templetower.utils.EnemyGenerator;
+import it.unibo.templetower.utils.RandomStreams;
+import it.unibo.templetower.utils.WeightedSampler;
 
 /**
  * Manages the spawning of floors and rooms in the temple tower.
+ * When floors are loaded lazily, each manager keeps the contents of its own active level band: the floors
+ * the player moved past are released, and the floors of the next level can be loaded in the background.
+ * Every level is generated from its own random stream derived from the run seed, so the floor of a level
+ * does not depend on the floors generated before it.
  */
 public class SpawnManager {
-    private static final double ENEMY_ROOM_CHANCE = 0.5;
-    private static final double EMPTY_ROOM_CHANCE = 0.25;
-    private static final double TREASURE_ROOM_CHANCE = 0.125;
-    private static final int DEFAULT_ROOM_NUMBER = 7;
     private static final int BUDGET_MULTIPLIER = 5;
     private static final double TREASURE_HEALTH_CHANCE = 0.5;
     private static final double TREASURE_WEAPON_CHANCE = 0.5;
     private static final double TRAP_BASE_DAMAGE = 1.5;
+    private static final String FLOOR_STREAM = "floor";
 
-    private final List<FloorData> floors;
-    private final Random random;
+    private final FloorIntervalIndex floorIndex;
+    private final Map<RoomWeights, WeightedSampler<RoomType>> roomSamplers;
+    private final List<FloorData> floorsByLastLevel;
+    private final FloorBand activeBand = new FloorBand();
+    private int releasedFloors;
+    private RandomStreams streams;
     private final int towerHeight;
+    private final Executor prefetcher;
 
     private final int floorBeforeBoss;
     private int passedFloors;
@@ -34,53 +47,81 @@ public class SpawnManager {
      * @param towerData the tower record holding floor data among other info
      */
     public SpawnManager(final Tower towerData) {
-        this.passedFloors = 0;
-        this.floors = new ArrayList<>(towerData.floors());
-        this.random = new Random();
-        this.towerHeight = towerData.height();
-        floorBeforeBoss = towerData.height();
+        this(towerData, null);
     }
 
     /**
-     * Spawns a floor with the default number of rooms.
+     * Creates a new SpawnManager that loads the floors of the next level in the background.
      *
-     * @param level the current level for the floor selection
-     * @return the Floor with all the rooms generated
+     * @param towerData the tower record holding floor data among other info
+     * @param prefetcher the executor loading the floors of the next level, or null to load them on demand
      */
-    public Floor spawnFloor(final int level) {
-        return spawnFloor(level, DEFAULT_ROOM_NUMBER);
+    public SpawnManager(final Tower towerData, final Executor prefetcher) {
+        this(towerData, prefetcher, RandomStreams.unseeded());
     }
 
     /**
-     * Spawns a floor with a given number of rooms.
+     * Creates a new SpawnManager generating floors from the random streams of a run.
+     *
+     * @param towerData the tower record holding floor data among other info
+     * @param prefetcher the executor loading the floors of the next level, or null to load them on demand
+     * @param streams the random streams of the run
+     */
+    public SpawnManager(final Tower towerData, final Executor prefetcher, final RandomStreams streams) {
+        this.prefetcher = prefetcher;
+        this.passedFloors = 0;
+        this.floorIndex = new FloorIntervalIndex(towerData.floors());
+        this.roomSamplers = new HashMap<>();
+        towerData.floors().forEach(floor -> roomSamplers.computeIfAbsent(floor.roomWeights(), SpawnManager::roomSampler));
+        this.floorsByLastLevel = towerData.floors().stream()
+            .sorted(Comparator.comparingInt(floor -> floor.spawningRange().getY()))
+            .toList();
+        this.streams = streams;
+        this.towerHeight = towerData.height();
+        floorBeforeBoss = towerData.height();
+    }
+
+    /**
+     * Spawns a floor with the number of rooms of the selected floor type.
      * One room is randomly set as a StairsRoom.
-     * The remaining rooms are generated based on arbitrary probability.
+     * The type of the remaining rooms is drawn using the room weights of the selected floor.
      * For enemy rooms, enemies are generated using a budget mechanism.
+     * Floors can be spawned from a background thread. A floor only counts as passed once it is generated,
+     * so a level whose generation failed can be spawned again without bringing the boss closer.
      *
      * @param level the current floor level
-     * @param roomNumber the total number of rooms to spawn (including the StairsRoom)
      * @return a Floor with all the rooms generated
      */
-    public Floor spawnFloor(final int level, final int roomNumber) {
+    public synchronized Floor spawnFloor(final int level) {
+        final Floor floor = generateFloor(level, passedFloors + 1 >= floorBeforeBoss);
         passedFloors++;
-        final FloorData generatedFloor = selectFloortype(level);
-        final List<Room> generatedRooms = new ArrayList<>();
+        return floor;
+    }
+
+    private Floor generateFloor(final int level, final boolean boss) {
+        final RandomGenerator random = streams.stream(FLOOR_STREAM, level);
+        final FloorData generatedFloor = selectFloortype(level, random);
+        updateActiveBand(level);
+        final int roomNumber = generatedFloor.roomCount();
+        final List<Room> generatedRooms = new ArrayList<>(roomNumber);
         final int stairsIndex = random.nextInt(roomNumber);
         int enemyBudget = level * BUDGET_MULTIPLIER;
 
-        if (passedFloors >= floorBeforeBoss) {
-            final var enemies = generatedFloor.enemies().orElse(Collections.emptyList());
-            final Enemy selectedEnemy = EnemyGenerator.pickEnemyByBudget(enemies, enemyBudget, random);
+        if (boss) {
+            final Enemy selectedEnemy =
+                EnemyGenerator.pickEnemyByBudget(activeBand.enemyIndex(generatedFloor), enemyBudget, random);
             return new Floor("boss", "images/boss.png", List.of(new Room(new EnemyRoom(selectedEnemy), "boss_view", 1)), 1);
         }
 
+        final WeightedSampler<RoomType> roomSampler = roomSamplers.get(generatedFloor.roomWeights());
         for (int i = 0; i < roomNumber; i++) {
             if (i == stairsIndex) {
                 generatedRooms.add(new Room(new StairsRoom(), "stairs_view", i));
-            } else {
-                final double roll = random.nextDouble();
-                if (roll < ENEMY_ROOM_CHANCE) {
-                    final var enemies = generatedFloor.enemies().orElse(Collections.emptyList());
+                continue;
+            }
+            switch (roomSampler.sample(random)) {
+                case ENEMY -> {
+                    final EnemyLevelIndex enemies = activeBand.enemyIndex(generatedFloor);
                     if (enemies.isEmpty()) {
                         generatedRooms.add(new Room(null, "empty_view", i));
                     } else {
@@ -88,56 +129,87 @@ public class SpawnManager {
                         enemyBudget = Math.max(1, enemyBudget - selectedEnemy.level());
                         generatedRooms.add(new Room(new EnemyRoom(selectedEnemy), "combat_view", i));
                     }
-                } else if (roll < ENEMY_ROOM_CHANCE + EMPTY_ROOM_CHANCE) {
-                    generatedRooms.add(new Room(null, "empty_view", i));
-                } else if (roll < ENEMY_ROOM_CHANCE + EMPTY_ROOM_CHANCE + TREASURE_ROOM_CHANCE) {
-                    final var weapons = generatedFloor.weapons().orElse(Collections.emptyList());
+                }
+                case EMPTY -> generatedRooms.add(new Room(null, "empty_view", i));
+                case TREASURE -> {
+                    final var weapons = activeBand.weapons(generatedFloor).orElse(Collections.emptyList());
                     final Optional<Weapon> randomWeapon = weapons.isEmpty() 
                         ? Optional.empty() 
                         : Optional.of(weapons.get(random.nextInt(weapons.size())));
                     generatedRooms.add(new Room(new TreasureRoom(randomWeapon, 
-                        TREASURE_HEALTH_CHANCE, TREASURE_WEAPON_CHANCE), "treasure_view", i));
-                } else {
-                    generatedRooms.add(new Room(new Trap(TRAP_BASE_DAMAGE * level), "trap_view", i));
+                        TREASURE_HEALTH_CHANCE, TREASURE_WEAPON_CHANCE, random), "treasure_view", i));
                 }
+                case TRAP -> generatedRooms.add(new Room(new Trap(TRAP_BASE_DAMAGE * level), "trap_view", i));
             }
         }
         return new Floor(generatedFloor.floorName(), generatedFloor.spritePath(), generatedRooms, generatedFloor.visibility());
     }
 
+    /**
+     * Starts a new run on the same tower, without building the floor index and room samplers again.
+     * Passed floors are counted from zero, and the floors released by the previous run are read again
+     * when they are needed.
+     *
+     * @param runStreams the random streams of the new run
+     */
+    public synchronized void restart(final RandomStreams runStreams) {
+        this.streams = runStreams;
+        this.passedFloors = 0;
+        this.releasedFloors = 0;
+    }
+
+    /**
+     * Checks whether the contents of a floor are in memory for the run of this manager.
+     *
+     * @param floor a floor of the tower
+     * @return true if the enemies and weapons of the floor are in memory
+     */
+    public boolean isFloorLoaded(final FloorData floor) {
+        return activeBand.isLoaded(floor);
+    }
+
+    /*
+     * Levels only grow during a run, so floors ending before the current level will not be used again.
+     */
+    private void updateActiveBand(final int level) {
+        while (releasedFloors < floorsByLastLevel.size()
+                && floorsByLastLevel.get(releasedFloors).spawningRange().getY() < level) {
+            activeBand.release(floorsByLastLevel.get(releasedFloors));
+            releasedFloors++;
+        }
+        if (prefetcher != null) {
+            floorIndex.eligible(level + 1).forEach(floor -> activeBand.prefetch(floor, prefetcher));
+        }
+    }
+
     /**
      * Chooses a FloorData based on the given level, taking its spawnWeight into account in a weighted manner.
-     * Filters floors that can spawn at the specified level by checking the spawning range,
-     * and uses the spawn weight to randomly select one of the eligible floors.
+     * Eligible floors and their weight samplers are looked up in an index built once from the spawning ranges.
      *
      * @param level the current level for the floor selection
+     * @param random the random stream of the level
      * @return the FloorData selected based on the level and its spawnWeight, or null if no eligible floor is found
      */
-    private FloorData selectFloortype(final int level) {
+    private FloorData selectFloortype(final int level, final RandomGenerator random) {
         if (level < 1 || level > towerHeight) {
             return null;
         }
+        return floorIndex.select(level, random).orElse(null);
+    }
 
-        final List<FloorData> eligibleFloors = floors.stream()
-            .filter(fd -> {
-                final var range = fd.spawningRange();
-                return level >= range.getX() && level <= range.getY();
-            })
-            .toList();
-
-        if (eligibleFloors.isEmpty()) {
-            return null;
-        }
+    private static WeightedSampler<RoomType> roomSampler(final RoomWeights weights) {
+        final Map<RoomType, Double> byType = new EnumMap<>(RoomType.class);
+        byType.put(RoomType.ENEMY, weights.enemy());
+        byType.put(RoomType.EMPTY, weights.empty());
+        byType.put(RoomType.TREASURE, weights.treasure());
+        byType.put(RoomType.TRAP, weights.trap());
+        return new WeightedSampler<>(List.of(RoomType.values()), byType::get);
+    }
 
-        final int totalWeight = eligibleFloors.stream().mapToInt(FloorData::spawnWeight).sum();
-        final double r = Math.random() * totalWeight;
-        int cumulative = 0;
-        for (final FloorData fd : eligibleFloors) {
-            cumulative += fd.spawnWeight();
-            if (r < cumulative) {
-                return fd;
-            }
-        }
-        return eligibleFloors.get(eligibleFloors.size() - 1);
+    /**
+     * Types of the rooms generated besides the stairs.
+     */
+    private enum RoomType {
+        ENEMY, EMPTY, TREASURE, TRAP
     }
 }
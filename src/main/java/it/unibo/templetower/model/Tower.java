@@ -2,12 +2,12 @@ package it.unibo.templetower.model;
 
 import java.util.List;
 import java.util.Map;
-import java.util.ArrayList;
-import java.util.HashMap;
 
 /**
  * Represents a tower in the game with its properties.
  * Contains information about the tower's name, description, floors, and attack sprites.
+ * A tower is an immutable snapshot: its collections are copied once at construction and then shared,
+ * so the same instance can be safely kept in a cache and handed out to every caller.
  *
  * @param name The name of the tower
  * @param description A description of the tower
@@ -23,20 +23,10 @@ public record Tower(
     int height
 ) {
     /**
-     * Creates a new Tower with defensive copies of mutable collections.
+     * Creates a new Tower with unmodifiable copies of mutable collections.
      */
     public Tower {
-        floors = new ArrayList<>(floors);
-        attacksSprite = new HashMap<>(attacksSprite);
-    }
-
-    @Override
-    public List<FloorData> floors() {
-        return new ArrayList<>(floors);
-    }
-
-    @Override
-    public Map<String, String> attacksSprite() {
-        return new HashMap<>(attacksSprite);
+        floors = List.copyOf(floors);
+        attacksSprite = Map.copyOf(attacksSprite);
     }
 }
@@ -0,0 +1,31 @@
+package it.unibo.templetower.model;
+
+/**
+ * Record holding the lightweight metadata of an installed tower.
+ * It is stored in the {@link TowerMetadataIndex} so that the modding menu can list towers
+ * without loading their floors, enemies and weapons.
+ *
+ * @param name the name of the tower
+ * @param description the description of the tower
+ * @param height the height of the tower in levels
+ * @param floorCount the number of floor types declared by the tower
+ * @param contentHash the SHA-256 hash of the tower.json content
+ * @param lastModified the last modification time of tower.json, in milliseconds
+ */
+public record TowerMetadata(
+    String name,
+    String description,
+    int height,
+    int floorCount,
+    String contentHash,
+    long lastModified) {
+    /**
+     * Compact constructor for validation.
+     * @throws IllegalArgumentException if name, description or hash are null
+     */
+    public TowerMetadata {
+        if (name == null || description == null || contentHash == null) {
+            throw new IllegalArgumentException("Tower metadata parameters cannot be null");
+        }
+    }
+}
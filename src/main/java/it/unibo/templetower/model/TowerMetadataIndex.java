@@ -0,0 +1,147 @@
+package it.unibo.templetower.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent index of the metadata of the installed towers, keyed by tower directory name.
+ * The index is saved as a JSON file inside the user towers directory and lets the modding menu
+ * read names, descriptions and heights without loading every tower on each refresh.
+ * An entry is considered up to date only while the modification time of its tower.json is unchanged.
+ */
+public final class TowerMetadataIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TowerMetadataIndex.class);
+    private static final String INDEX_FILENAME = ".tower-index.json";
+    private final Path indexFile;
+    private final Map<String, TowerMetadata> entries = new HashMap<>();
+    private final Gson gson = new Gson();
+
+    /**
+     * Creates an index stored in the given directory and loads its previous content, if any.
+     *
+     * @param towersDir the directory containing the installed towers
+     */
+    public TowerMetadataIndex(final Path towersDir) {
+        this.indexFile = towersDir.resolve(INDEX_FILENAME);
+        load();
+    }
+
+    private void load() {
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            final Map<String, TowerMetadata> saved = gson.fromJson(reader,
+                new TypeToken<Map<String, TowerMetadata>>() { }.getType());
+            if (saved != null) {
+                entries.putAll(saved);
+            }
+        } catch (IOException | JsonParseException | IllegalArgumentException e) {
+            LOGGER.warn("Discarding unreadable tower index {}: {}", indexFile, e.getMessage());
+            entries.clear();
+        }
+    }
+
+    /**
+     * Writes the index to disk. The file is replaced atomically so that a crash
+     * never leaves a truncated index behind.
+     */
+    public void save() {
+        final Path tempFile = indexFile.resolveSibling(INDEX_FILENAME + ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(entries, writer);
+            }
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.error("Failed to save tower index {}", indexFile, e);
+        }
+    }
+
+    /**
+     * Gets the metadata of a tower if it is indexed and its tower.json has not been modified since.
+     *
+     * @param towerDirName the name of the tower directory
+     * @param towerJson the path to the tower.json file of the tower
+     * @return Optional containing the up to date metadata, or empty if missing or stale
+     */
+    public Optional<TowerMetadata> getIfFresh(final String towerDirName, final Path towerJson) {
+        final TowerMetadata metadata = entries.get(towerDirName);
+        if (metadata == null) {
+            return Optional.empty();
+        }
+        try {
+            if (Files.getLastModifiedTime(towerJson).toMillis() == metadata.lastModified()) {
+                return Optional.of(metadata);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Cannot read modification time of {}", towerJson, e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Builds the metadata of a loaded tower and stores it in the index.
+     *
+     * @param towerDirName the name of the tower directory
+     * @param towerJson the path to the tower.json file of the tower
+     * @param tower the fully loaded tower
+     * @return the stored metadata
+     * @throws IOException if tower.json cannot be read
+     */
+    public TowerMetadata put(final String towerDirName, final Path towerJson, final Tower tower) throws IOException {
+        final long lastModified = Files.getLastModifiedTime(towerJson).toMillis();
+        final TowerMetadata metadata = new TowerMetadata(
+            tower.name(),
+            tower.description(),
+            tower.height(),
+            tower.floors().size(),
+            hash(Files.readAllBytes(towerJson)),
+            lastModified
+        );
+        entries.put(towerDirName, metadata);
+        return metadata;
+    }
+
+    /**
+     * Removes a tower from the index.
+     *
+     * @param towerDirName the name of the tower directory
+     */
+    public void remove(final String towerDirName) {
+        entries.remove(towerDirName);
+    }
+
+    /**
+     * Removes every tower from the index.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private static String hash(final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
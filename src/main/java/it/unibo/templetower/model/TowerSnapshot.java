@@ -0,0 +1,36 @@
+package it.unibo.templetower.model;
+
+import java.util.List;
+
+import it.unibo.templetower.utils.FileStamp;
+
+/**
+ * Record representing an immutable loaded version of a tower.
+ * Every time a tower file is loaded again a new snapshot with a higher version replaces the previous one.
+ *
+ * @param path the canonical path of the tower.json file
+ * @param version the content version of the snapshot, increasing every time the files of the tower change
+ * @param tower the loaded tower
+ * @param sources the stamps of every file read to build the tower
+ */
+public record TowerSnapshot(String path, long version, Tower tower, List<FileStamp> sources) {
+    /**
+     * Compact constructor for validation.
+     * @throws IllegalArgumentException if path, tower or sources are null
+     */
+    public TowerSnapshot {
+        if (path == null || tower == null || sources == null) {
+            throw new IllegalArgumentException("Snapshot parameters cannot be null");
+        }
+        sources = List.copyOf(sources);
+    }
+
+    /**
+     * Checks whether the snapshot still reflects the files on disk, using only their modification time and size.
+     *
+     * @return true if none of the source files changed since the snapshot was loaded
+     */
+    public boolean isCurrent() {
+        return sources.stream().allMatch(FileStamp::isCurrent);
+    }
+}
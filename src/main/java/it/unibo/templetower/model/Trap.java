@@ -23,7 +23,7 @@ public final class Trap implements RoomBehavior {
      */
     @Override
     public void interact(final Player player, final int direction) {
-        LOGGER.info("Player triggered a trap");
+        LOGGER.debug("Player triggered a trap");
         player.takeDamage(damage);
     }
 
@@ -2,7 +2,8 @@ package it.unibo.templetower.model;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a room in the game that contains a treasure chest.
@@ -12,7 +13,7 @@ public final class TreasureRoom implements RoomBehavior {
 
     private static final double EPSILON = 1e-6;
     private int indexElement; 
-    private final Random random = new Random();
+    private final RandomGenerator random;
 
     //possible outcomes of the treasure
     private Optional<Integer> xps;
@@ -28,7 +29,23 @@ public final class TreasureRoom implements RoomBehavior {
             final Optional<Weapon> weapon, 
             final double xpsProbability, 
             final double weaponProbability) {
+        this(weapon, xpsProbability, weaponProbability, new SplittableRandom());
+    }
+
+    /**
+     * Creates a new treasure room drawing its outcome from the given generator.
+     * @param weapon the optional weapon that could be found
+     * @param xpsProbability probability of finding experience points
+     * @param weaponProbability probability of finding a weapon
+     * @param random the generator used to draw the outcome
+     */
+    public TreasureRoom(
+            final Optional<Weapon> weapon, 
+            final double xpsProbability, 
+            final double weaponProbability,
+            final RandomGenerator random) {
         this.weapon = weapon;
+        this.random = random;
         this.probabilisticRunner(
             List.of(xpsProbability, weaponProbability),
             List.of(() -> generateTreasureOutcome("xps"),
@@ -96,6 +113,14 @@ public final class TreasureRoom implements RoomBehavior {
         return indexElement;
     }
 
+    /**
+     * 
+     * @return true if the treasure holds a weapon
+     */
+    public boolean hasWeapon() {
+        return this.weapon.isPresent();
+    }
+
     /**
      * 
      * @return the weapon in the treasure
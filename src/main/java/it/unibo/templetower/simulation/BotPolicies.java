@@ -0,0 +1,85 @@
+package it.unibo.templetower.simulation;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+import it.unibo.templetower.model.Player;
+import it.unibo.templetower.model.Room;
+import it.unibo.templetower.model.StairsRoom;
+import it.unibo.templetower.model.TreasureRoom;
+import it.unibo.templetower.model.Weapon;
+
+/**
+ * Built-in bot policies.
+ * Both fight with the weapon dealing the most damage to the enemy and keep the strongest weapons they find.
+ */
+public final class BotPolicies {
+
+    private BotPolicies() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @return a policy entering every room of a floor before taking the stairs
+     */
+    public static BotPolicy explorer() {
+        return new StrongestWeaponPolicy() {
+            @Override
+            public boolean shouldEnter(final Optional<Room> room, final Player player) {
+                return room.map(visible -> !(visible.getBehavior() instanceof StairsRoom)).orElse(true);
+            }
+        };
+    }
+
+    /**
+     * @return a policy looking for the stairs, only stopping at visible treasures and at rooms it cannot see
+     */
+    public static BotPolicy rusher() {
+        return new StrongestWeaponPolicy() {
+            @Override
+            public boolean shouldEnter(final Optional<Room> room, final Player player) {
+                return room.map(visible -> visible.getBehavior() instanceof StairsRoom
+                    || visible.getBehavior() instanceof TreasureRoom).orElse(true);
+            }
+        };
+    }
+
+    /**
+     * Gets a built-in policy by name.
+     *
+     * @param name the name of the policy, "explorer" or "rusher"
+     * @return the policy
+     * @throws IllegalArgumentException if there is no policy with that name
+     */
+    public static BotPolicy byName(final String name) {
+        return switch (name) {
+            case "explorer" -> explorer();
+            case "rusher" -> rusher();
+            default -> throw new IllegalArgumentException("Unknown bot policy: " + name);
+        };
+    }
+
+    private abstract static class StrongestWeaponPolicy implements BotPolicy {
+
+        @Override
+        public int selectWeapon(final Player player, final Room room) {
+            final List<Weapon> weapons = player.getAllWeapons();
+            return IntStream.range(0, weapons.size()).boxed()
+                .max(Comparator.comparingDouble(index ->
+                    weapons.get(index).attack().getY() * room.getMoltiplicator(weapons.get(index))))
+                .orElse(0);
+        }
+
+        @Override
+        public OptionalInt replaceWeapon(final Player player, final Weapon found) {
+            final List<Weapon> weapons = player.getAllWeapons();
+            final int weakest = IntStream.range(0, weapons.size()).boxed()
+                .min(Comparator.comparingDouble(index -> weapons.get(index).attack().getY()))
+                .orElse(0);
+            return weapons.get(weakest).attack().getY() < found.attack().getY() ? OptionalInt.of(weakest) : OptionalInt.empty();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package it.unibo.templetower.simulation;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import it.unibo.templetower.model.Player;
+import it.unibo.templetower.model.Room;
+import it.unibo.templetower.model.Weapon;
+
+/**
+ * Decisions taken by a simulated player.
+ * Policies must be stateless or thread-safe, since the same policy plays many games in parallel.
+ */
+public interface BotPolicy {
+
+    /**
+     * Decides whether to enter a room while walking through a floor.
+     * Rooms are offered in order, starting from the first one; after a whole lap without finding the stairs,
+     * the remaining rooms are entered regardless of the policy.
+     *
+     * @param room the room, or empty if the floor does not show it to the player
+     * @param player the player
+     * @return true to enter the room
+     */
+    boolean shouldEnter(Optional<Room> room, Player player);
+
+    /**
+     * Chooses the weapon used to fight the enemy of a room.
+     *
+     * @param player the player
+     * @param room the room holding the enemy
+     * @return the index of the weapon among the player's weapons
+     */
+    int selectWeapon(Player player, Room room);
+
+    /**
+     * Decides what to do with a weapon found in a treasure when the player already holds three weapons.
+     *
+     * @param player the player
+     * @param found the weapon found
+     * @return the index of the weapon to replace, or empty to leave the found weapon
+     */
+    OptionalInt replaceWeapon(Player player, Weapon found);
+}
@@ -0,0 +1,76 @@
+package it.unibo.templetower.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Distribution of the damage a player takes fighting an enemy, over all the simulated encounters with it.
+ * Damage is counted in buckets of {@value #BUCKET_WIDTH} life points; the last bucket holds every
+ * encounter dealing at least {@value #MAX_BUCKETED_DAMAGE} damage.
+ */
+public final class DamageDistribution {
+    /** Width of a bucket, in life points. */
+    public static final int BUCKET_WIDTH = 10;
+    /** Damage from which encounters fall in the last bucket. */
+    public static final int MAX_BUCKETED_DAMAGE = 100;
+
+    private final long[] buckets = new long[MAX_BUCKETED_DAMAGE / BUCKET_WIDTH + 1];
+    private long encounters;
+    private long playerDeaths;
+    private double totalDamage;
+    private double maxDamage;
+
+    void record(final double damage, final boolean killedPlayer) {
+        buckets[Math.min(buckets.length - 1, (int) (damage / BUCKET_WIDTH))]++;
+        encounters++;
+        if (killedPlayer) {
+            playerDeaths++;
+        }
+        totalDamage += damage;
+        maxDamage = Math.max(maxDamage, damage);
+    }
+
+    void merge(final DamageDistribution other) {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] += other.buckets[i];
+        }
+        encounters += other.encounters;
+        playerDeaths += other.playerDeaths;
+        totalDamage += other.totalDamage;
+        maxDamage = Math.max(maxDamage, other.maxDamage);
+    }
+
+    /**
+     * @return the number of encounters with the enemy
+     */
+    public long encounters() {
+        return encounters;
+    }
+
+    /**
+     * @return the number of encounters the player did not survive
+     */
+    public long playerDeaths() {
+        return playerDeaths;
+    }
+
+    /**
+     * @return the mean damage taken per encounter, or 0 if there were no encounters
+     */
+    public double meanDamage() {
+        return encounters == 0 ? 0 : totalDamage / encounters;
+    }
+
+    /**
+     * @return the highest damage taken in a single encounter
+     */
+    public double maxDamage() {
+        return maxDamage;
+    }
+
+    /**
+     * @return the number of encounters in each bucket, from the lowest damage to the highest
+     */
+    public long[] buckets() {
+        return Arrays.copyOf(buckets, buckets.length);
+    }
+}
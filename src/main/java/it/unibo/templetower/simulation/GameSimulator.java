@@ -0,0 +1,181 @@
+package it.unibo.templetower.simulation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.random.RandomGenerator;
+
+import it.unibo.templetower.model.CombatBatch;
+import it.unibo.templetower.model.CombatOutcome;
+import it.unibo.templetower.model.CombatResolver;
+import it.unibo.templetower.model.EnemyRoom;
+import it.unibo.templetower.model.Floor;
+import it.unibo.templetower.model.Player;
+import it.unibo.templetower.model.PlayerImpl;
+import it.unibo.templetower.model.Room;
+import it.unibo.templetower.model.SpawnManager;
+import it.unibo.templetower.model.StairsRoom;
+import it.unibo.templetower.model.Tower;
+import it.unibo.templetower.model.TreasureRoom;
+import it.unibo.templetower.model.Weapon;
+import it.unibo.templetower.utils.RandomStreams;
+
+/**
+ * Plays complete games on the model layer, following the rules of the game: fights are played
+ * as by the turn scheduler of the game controller, resolved in closed form by a {@link CombatResolver},
+ * and beating an enemy restores the player's life.
+ */
+final class GameSimulator {
+    /** Fights lasting longer than this are lost, so that weapons dealing no damage cannot loop forever. */
+    static final int MAX_COMBAT_TURNS = 1_000;
+    private static final int MAX_WEAPONS = 3;
+    private static final int ATTACK_PLAYER = 0;
+    private static final String VISIBILITY_STREAM = "display";
+    private static final String BOSS_ROOM = "boss_view";
+
+    private static final CombatResolver RESOLVER = new CombatResolver(MAX_COMBAT_TURNS);
+
+    private final Tower tower;
+    private final BotPolicy policy;
+
+    /**
+     * Creates a simulator for a tower.
+     *
+     * @param tower the tower, whose floors should be loaded eagerly
+     * @param policy the policy of the simulated player
+     */
+    GameSimulator(final Tower tower, final BotPolicy policy) {
+        this.tower = tower;
+        this.policy = policy;
+    }
+
+    /**
+     * Plays a game and records its results.
+     *
+     * @param difficulty the multiplier of the player's damage
+     * @param seed the run seed of the game
+     * @param report the report receiving the results
+     */
+    void play(final double difficulty, final long seed, final SimulationReport report) {
+        final RandomStreams streams = new RandomStreams(seed);
+        final SpawnManager spawnManager = new SpawnManager(tower, null, streams);
+        final Player player = new PlayerImpl(PlayerImpl.STARTING_WEAPON, Optional.empty());
+        player.setDifficulty(difficulty);
+        final Game game = new Game(player, difficulty, streams.stream(VISIBILITY_STREAM), report);
+        for (int level = 1; level <= tower.height(); level++) {
+            final Floor floor = spawnManager.spawnFloor(level);
+            final List<Room> rooms = floor.rooms();
+            if (BOSS_ROOM.equals(rooms.get(0).getName())) {
+                report.recordGame(difficulty, level, enter(rooms.get(0), game));
+                return;
+            }
+            if (!clearFloor(floor, rooms, game)) {
+                report.recordGame(difficulty, level, false);
+                return;
+            }
+        }
+        report.recordGame(difficulty, tower.height(), false);
+    }
+
+    /*
+     * Walks the rooms in order, then enters the skipped ones until the stairs are found.
+     * Returns false if the player died.
+     */
+    private boolean clearFloor(final Floor floor, final List<Room> rooms, final Game game) {
+        final boolean[] visited = new boolean[rooms.size()];
+        for (int i = 0; i < rooms.size(); i++) {
+            final Room room = rooms.get(i);
+            // Same rule as GameControllerImpl.isRoomToDisplay
+            final boolean shown = game.visibility.nextDouble() >= floor.visibility();
+            if (policy.shouldEnter(shown ? Optional.of(room) : Optional.empty(), game.player)) {
+                visited[i] = true;
+                if (!enter(room, game)) {
+                    return false;
+                }
+                if (room.getBehavior() instanceof StairsRoom) {
+                    return true;
+                }
+            }
+        }
+        for (int i = 0; i < rooms.size(); i++) {
+            if (!visited[i]) {
+                final Room room = rooms.get(i);
+                if (!enter(room, game)) {
+                    return false;
+                }
+                if (room.getBehavior() instanceof StairsRoom) {
+                    return true;
+                }
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Returns false if the player died in the room.
+     */
+    private boolean enter(final Room room, final Game game) {
+        final Player player = game.player;
+        room.enter(player);
+        if (room.getBehavior() instanceof EnemyRoom enemyRoom) {
+            return fight(room, enemyRoom, game);
+        } else if (room.getBehavior() instanceof TreasureRoom treasure) {
+            room.interactWithRoom(player, ATTACK_PLAYER);
+            if (treasure.hasWeapon()) {
+                takeWeapon(player, treasure.getWeapon());
+            }
+        } else if (room.getBehavior() != null && !(room.getBehavior() instanceof StairsRoom)) {
+            room.interactWithRoom(player, ATTACK_PLAYER);
+        }
+        return player.getLife() > 0;
+    }
+
+    /*
+     * Fights are resolved at once rather than by exchanging blows, then their result is applied to the model.
+     */
+    private boolean fight(final Room room, final EnemyRoom enemyRoom, final Game game) {
+        final Player player = game.player;
+        player.changeWeapon(policy.selectWeapon(player, room));
+        final double lifeBefore = player.getLife();
+        game.combat.clear();
+        game.combat.add(lifeBefore, player.getActualWeapon(), enemyRoom.getEnemy(), game.difficulty);
+        RESOLVER.resolve(game.combat);
+        enemyRoom.takeDamage(enemyRoom.getLifePoints() - game.combat.remainingEnemyLife(0));
+        player.takeDamage(lifeBefore - game.combat.remainingPlayerLife(0));
+        final boolean won = game.combat.outcome(0) == CombatOutcome.PLAYER_WON;
+        game.report.recordEncounter(enemyRoom.getName(), lifeBefore - player.getLife(), !won);
+        if (won) {
+            player.resetLife();
+        }
+        return won;
+    }
+
+    private void takeWeapon(final Player player, final Weapon found) {
+        if (player.getAllWeapons().size() < MAX_WEAPONS) {
+            player.addWeapon(found, 0);
+        } else {
+            final OptionalInt replaced = policy.replaceWeapon(player, found);
+            if (replaced.isPresent()) {
+                player.addWeapon(found, replaced.getAsInt());
+            }
+        }
+    }
+
+    /*
+     * State of a game being played, so that a simulator can play several games at once.
+     */
+    private static final class Game {
+        private final Player player;
+        private final double difficulty;
+        private final RandomGenerator visibility;
+        private final SimulationReport report;
+        private final CombatBatch combat = new CombatBatch(1);
+
+        Game(final Player player, final double difficulty, final RandomGenerator visibility, final SimulationReport report) {
+            this.player = player;
+            this.difficulty = difficulty;
+            this.visibility = visibility;
+            this.report = report;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package it.unibo.templetower.simulation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Aggregated results of simulated games on a tower: survival curves and win rates per difficulty
+ * and the distribution of the damage dealt by each enemy.
+ * Reports are filled by a single thread and then merged, so they need no synchronization.
+ */
+public final class SimulationReport {
+    private final int height;
+    private final Map<Double, DifficultyStats> byDifficulty = new TreeMap<>();
+    private final Map<String, DamageDistribution> damageByEnemy = new TreeMap<>();
+
+    /**
+     * Creates an empty report.
+     *
+     * @param height the height of the simulated tower
+     */
+    SimulationReport(final int height) {
+        this.height = height;
+    }
+
+    void recordGame(final double difficulty, final int floorReached, final boolean won) {
+        final DifficultyStats stats = byDifficulty.computeIfAbsent(difficulty, key -> new DifficultyStats(height));
+        stats.games++;
+        if (won) {
+            stats.wins++;
+        }
+        stats.deepestFloor[Math.min(floorReached, height)]++;
+    }
+
+    void recordEncounter(final String enemy, final double damage, final boolean killedPlayer) {
+        damageByEnemy.computeIfAbsent(enemy, key -> new DamageDistribution()).record(damage, killedPlayer);
+    }
+
+    void merge(final SimulationReport other) {
+        other.byDifficulty.forEach((difficulty, stats) ->
+            byDifficulty.computeIfAbsent(difficulty, key -> new DifficultyStats(height)).merge(stats));
+        other.damageByEnemy.forEach((enemy, distribution) ->
+            damageByEnemy.computeIfAbsent(enemy, key -> new DamageDistribution()).merge(distribution));
+    }
+
+    /**
+     * @return the simulated difficulties, in increasing order
+     */
+    public Set<Double> difficulties() {
+        return Collections.unmodifiableSet(byDifficulty.keySet());
+    }
+
+    /**
+     * @param difficulty the difficulty
+     * @return the number of games simulated at the difficulty
+     */
+    public long games(final double difficulty) {
+        return stats(difficulty).games;
+    }
+
+    /**
+     * @param difficulty the difficulty
+     * @return the fraction of games won at the difficulty
+     */
+    public double winRate(final double difficulty) {
+        final DifficultyStats stats = stats(difficulty);
+        return stats.games == 0 ? 0 : (double) stats.wins / stats.games;
+    }
+
+    /**
+     * Gets the survival curve of a difficulty.
+     *
+     * @param difficulty the difficulty
+     * @return the fraction of games reaching each floor, where index 0 is the first floor
+     */
+    public double[] survivalCurve(final double difficulty) {
+        final DifficultyStats stats = stats(difficulty);
+        final double[] curve = new double[height];
+        long reached = 0;
+        for (int floor = height; floor >= 1; floor--) {
+            reached += stats.deepestFloor[floor];
+            curve[floor - 1] = stats.games == 0 ? 0 : (double) reached / stats.games;
+        }
+        return curve;
+    }
+
+    /**
+     * @return the damage distribution of every enemy met, by enemy name
+     */
+    public Map<String, DamageDistribution> damageByEnemy() {
+        return Collections.unmodifiableMap(damageByEnemy);
+    }
+
+    /**
+     * @return a plain text summary of the report
+     */
+    public String format() {
+        final StringBuilder text = new StringBuilder();
+        for (final double difficulty : byDifficulty.keySet()) {
+            text.append(String.format(Locale.ROOT, "Difficulty %.2f: %d games, win rate %.4f%n",
+                difficulty, games(difficulty), winRate(difficulty)));
+            final double[] curve = survivalCurve(difficulty);
+            for (int floor = 0; floor < curve.length; floor++) {
+                text.append(String.format(Locale.ROOT, "  floor %3d  %.4f%n", floor + 1, curve[floor]));
+            }
+        }
+        text.append(String.format(Locale.ROOT, "Damage by enemy (buckets of %d HP):%n", DamageDistribution.BUCKET_WIDTH));
+        damageByEnemy.forEach((enemy, distribution) -> text.append(String.format(Locale.ROOT,
+            "  %-24s encounters %d, deaths %d, mean %.2f, max %.2f, buckets %s%n",
+            enemy, distribution.encounters(), distribution.playerDeaths(), distribution.meanDamage(),
+            distribution.maxDamage(), Arrays.toString(distribution.buckets()))));
+        return text.toString();
+    }
+
+    private DifficultyStats stats(final double difficulty) {
+        final DifficultyStats stats = byDifficulty.get(difficulty);
+        if (stats == null) {
+            throw new IllegalArgumentException("Difficulty " + difficulty + " was not simulated");
+        }
+        return stats;
+    }
+
+    private static final class DifficultyStats {
+        private long games;
+        private long wins;
+        // Number of games whose deepest floor is the index; index 0 is unused
+        private final long[] deepestFloor;
+
+        DifficultyStats(final int height) {
+            this.deepestFloor = new long[height + 1];
+        }
+
+        void merge(final DifficultyStats other) {
+            games += other.games;
+            wins += other.wins;
+            for (int floor = 0; floor < deepestFloor.length; floor++) {
+                deepestFloor[floor] += other.deepestFloor[floor];
+            }
+        }
+    }
+}
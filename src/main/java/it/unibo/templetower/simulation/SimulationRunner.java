@@ -0,0 +1,55 @@
+package it.unibo.templetower.simulation;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import it.unibo.templetower.model.Tower;
+import it.unibo.templetower.utils.RandomStreams;
+
+/**
+ * Runs many simulated games on a tower in parallel, using the common fork/join pool.
+ * Each game gets its own run seed derived from the simulation seed, so a simulation is reproducible
+ * whatever the number of threads; the same game seeds are used for every difficulty, so that
+ * differences between difficulties are not hidden by the noise of different towers.
+ */
+public final class SimulationRunner {
+    private static final String GAME_STREAM = "game";
+
+    private final Tower tower;
+    private final GameSimulator simulator;
+
+    /**
+     * Creates a runner.
+     *
+     * @param tower the tower to play, whose floors should be loaded eagerly
+     * @param policy the policy of the simulated players
+     */
+    public SimulationRunner(final Tower tower, final BotPolicy policy) {
+        this.tower = tower;
+        this.simulator = new GameSimulator(tower, policy);
+    }
+
+    /**
+     * Plays the given number of games at each difficulty.
+     *
+     * @param games the number of games per difficulty
+     * @param difficulties the multipliers of the player's damage to simulate
+     * @param seed the simulation seed
+     * @return the aggregated results
+     * @throws IllegalArgumentException if the number of games is negative
+     */
+    public SimulationReport run(final long games, final List<Double> difficulties, final long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games cannot be negative");
+        }
+        final RandomStreams streams = new RandomStreams(seed);
+        final SimulationReport report = new SimulationReport(tower.height());
+        for (final double difficulty : difficulties) {
+            report.merge(LongStream.range(0, games).parallel().collect(
+                () -> new SimulationReport(tower.height()),
+                (partial, game) -> simulator.play(difficulty, streams.stream(GAME_STREAM, game).nextLong(), partial),
+                SimulationReport::merge));
+        }
+        return report;
+    }
+}
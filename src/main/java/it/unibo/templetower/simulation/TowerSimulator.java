@@ -0,0 +1,58 @@
+package it.unibo.templetower.simulation;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unibo.templetower.controller.FloorLoadingMode;
+import it.unibo.templetower.controller.GameDataManager;
+
+/**
+ * Command line tool simulating games on a tower and printing the balance report.
+ * Usage: {@code TowerSimulator <tower directory or tower.json> [games] [explorer|rusher] [seed]}.
+ */
+public final class TowerSimulator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TowerSimulator.class);
+    private static final String TOWER_CONFIG_FILENAME = "tower.json";
+    private static final long DEFAULT_GAMES = 100_000;
+    private static final long DEFAULT_SEED = 1;
+    // Player damage multipliers of the easy, medium and hard difficulties of the game
+    private static final List<Double> DIFFICULTIES = List.of(1.5, 1.0, 0.5);
+    private static final int GAMES_ARG = 1;
+    private static final int POLICY_ARG = 2;
+    private static final int SEED_ARG = 3;
+
+    private TowerSimulator() {
+    }
+
+    /**
+     * Runs the simulation.
+     *
+     * @param args the tower, then optionally the number of games per difficulty, the bot policy and the seed
+     */
+    public static void main(final String[] args) {
+        if (args.length == 0) {
+            LOGGER.error("Usage: TowerSimulator <tower directory or tower.json> [games] [explorer|rusher] [seed]");
+            return;
+        }
+        final File source = new File(args[0]);
+        final File towerJson = source.isDirectory() ? new File(source, TOWER_CONFIG_FILENAME) : source;
+        try {
+            final long games = args.length > GAMES_ARG ? Long.parseLong(args[GAMES_ARG]) : DEFAULT_GAMES;
+            final BotPolicy policy = BotPolicies.byName(args.length > POLICY_ARG ? args[POLICY_ARG] : "explorer");
+            final long seed = args.length > SEED_ARG ? Long.parseLong(args[SEED_ARG]) : DEFAULT_SEED;
+            final GameDataManager manager = GameDataManager.getInstance();
+            manager.loadGameDataFromTower(towerJson.getPath(), FloorLoadingMode.PARALLEL);
+            final long start = System.nanoTime();
+            final SimulationReport report = new SimulationRunner(manager.getTower(), policy).run(games, DIFFICULTIES, seed);
+            final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            LOGGER.info("Simulated {} games per difficulty in {} ms", games, elapsed);
+            LOGGER.info("{}{}", System.lineSeparator(), report.format());
+        } catch (final IllegalArgumentException e) {
+            LOGGER.error("Cannot simulate {}: {}", towerJson, e.getMessage());
+        }
+    }
+}
@@ -1,14 +1,28 @@
 package it.unibo.templetower.utils;
 
+import java.io.File;
+import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javafx.scene.image.Image;
+
 /**
  * Manager for put and get assets for all entities in the game.
  * In particular, it manages the assets for the enemies based on their strength level.
+ * It also holds the decoded images shared by every view: images are cached by URL and requested size
+ * within a budget of bytes, evicting the least recently used ones, so that switching between scenes
+ * does not decode the same images again.
  * This class is not designed for extension.
  */
 public final class AssetManager {
+    /** Default budget of the image cache, in bytes. */
+    public static final long DEFAULT_IMAGE_BUDGET = 128L * 1024 * 1024;
+    private static final Logger LOGGER = LoggerFactory.getLogger(AssetManager.class);
+
     private final Map<String, String> genericEntityAsset;
 
     /**
@@ -35,4 +49,107 @@ public final class AssetManager {
     public String getGenericEntityAsset(final String type) {
         return genericEntityAsset.get(type);
     }
+
+    /**
+     * Gets an image at its own size.
+     *
+     * @param url the URL of the image
+     * @return the decoded image
+     * @throws IllegalArgumentException if the URL is not valid
+     */
+    public static Image getImage(final String url) {
+        return getImage(url, 0, 0);
+    }
+
+    /**
+     * Gets an image scaled to the given size, decoding it only if it is not cached.
+     * Images that fail to load are returned, so that views show them as empty, but are not cached.
+     *
+     * @param url the URL of the image
+     * @param width the width of the decoded image, or 0 to keep the width of the image
+     * @param height the height of the decoded image, or 0 to keep the height of the image
+     * @return the decoded image
+     * @throws IllegalArgumentException if the URL is not valid
+     */
+    public static Image getImage(final String url, final double width, final double height) {
+        final ImageKey key = new ImageKey(url, width, height);
+        final Image cached = Images.CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final Image image = new Image(url, width, height, false, true);
+        if (image.isError()) {
+            LOGGER.warn("Cannot load image {}", url);
+            return image;
+        }
+        return Images.CACHE.put(key, image);
+    }
+
+    /**
+     * Gets an image from the file system, such as the sprites of a tower.
+     *
+     * @param path the file path of the image
+     * @return the decoded image
+     */
+    public static Image getFileImage(final String path) {
+        return getImage(new File(path).toURI().toString());
+    }
+
+    /**
+     * Gets an image bundled with the game.
+     *
+     * @param resource the classpath resource of the image, such as {@code /images/player.png}
+     * @return the decoded image
+     * @throws IllegalArgumentException if the resource does not exist
+     */
+    public static Image getResourceImage(final String resource) {
+        return getResourceImage(resource, 0, 0);
+    }
+
+    /**
+     * Gets an image bundled with the game, scaled to the given size.
+     *
+     * @param resource the classpath resource of the image, such as {@code /images/player.png}
+     * @param width the width of the decoded image, or 0 to keep the width of the image
+     * @param height the height of the decoded image, or 0 to keep the height of the image
+     * @return the decoded image
+     * @throws IllegalArgumentException if the resource does not exist
+     */
+    public static Image getResourceImage(final String resource, final double width, final double height) {
+        final URL url = AssetManager.class.getResource(resource.startsWith("/") ? resource : "/" + resource);
+        if (url == null) {
+            throw new IllegalArgumentException("Image not found: " + resource);
+        }
+        return getImage(url.toExternalForm(), width, height);
+    }
+
+    /**
+     * Changes the budget of the image cache, evicting the least recently used images if it is exceeded.
+     *
+     * @param bytes the maximum number of bytes of the decoded images
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public static void setImageBudget(final long bytes) {
+        Images.CACHE.setBudget(bytes);
+    }
+
+    /**
+     * @return the counters of the image cache
+     */
+    public static LruCache.Stats getImageStats() {
+        return Images.CACHE.stats();
+    }
+
+    private record ImageKey(String url, double width, double height) {
+    }
+
+    /*
+     * Holder of the cache, so that the controllers can map entities to assets without loading JavaFX.
+     * Decoded images take 4 bytes per pixel; the frames of animated images are not counted.
+     */
+    private static final class Images {
+        private static final int BYTES_PER_PIXEL = 4;
+        private static final LruCache<ImageKey, Image> CACHE = new LruCache<>(DEFAULT_IMAGE_BUDGET,
+            image -> (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL);
+    }
 }
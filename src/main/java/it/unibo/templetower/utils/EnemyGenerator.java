@@ -1,8 +1,10 @@
 package it.unibo.templetower.utils;
 
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
+
 import it.unibo.templetower.model.Enemy;
+import it.unibo.templetower.model.EnemyLevelIndex;
 
 /**
  * Utility class for generating enemies based on a level budget.
@@ -15,23 +17,29 @@ public final class EnemyGenerator {
 
     /**
      * Picks an enemy from the provided list whose level is closest to a random target between 1 and budget.
+     * The list is indexed on every call: callers picking repeatedly from the same enemies should keep
+     * an {@link EnemyLevelIndex} and use {@link #pickEnemyByBudget(EnemyLevelIndex, int, RandomGenerator)}.
      *
      * @param enemyList list of available enemies
      * @param budget the current budget (>=1)
-     * @param random an instance of Random
+     * @param random the source of randomness
+     * @return the chosen Enemy
+     */
+    public static Enemy pickEnemyByBudget(final List<Enemy> enemyList, final int budget, final RandomGenerator random) {
+        return pickEnemyByBudget(new EnemyLevelIndex(enemyList), budget, random);
+    }
+
+    /**
+     * Picks an enemy whose level is closest to a random target between 1 and budget.
+     * Ties between equally close enemies are broken randomly.
+     *
+     * @param enemies the enemies indexed by level
+     * @param budget the current budget (>=1)
+     * @param random the source of randomness
      * @return the chosen Enemy
      */
-    public static Enemy pickEnemyByBudget(final List<Enemy> enemyList, final int budget, final Random random) {
+    public static Enemy pickEnemyByBudget(final EnemyLevelIndex enemies, final int budget, final RandomGenerator random) {
         final int target = random.nextInt(budget) + 1; // random value in [1, budget]
-        Enemy best = enemyList.get(0);
-        int bestDiff = Math.abs(best.level() - target);
-        for (final Enemy e : enemyList) {
-            final int diff = Math.abs(e.level() - target);
-            if (diff < bestDiff) {
-                best = e;
-                bestDiff = diff;
-            }
-        }
-        return best;
+        return enemies.closest(target, random);
     }
 }
@@ -0,0 +1,40 @@
+package it.unibo.templetower.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Record capturing the modification time and size of a file at a given moment.
+ * Comparing a stamp against the file on disk only needs a stat call, which makes it a cheap way
+ * to know whether cached data derived from the file is still valid.
+ *
+ * @param path the stamped file
+ * @param lastModified the last modification time in milliseconds, or -1 if the file did not exist
+ * @param size the size in bytes, or -1 if the file did not exist
+ */
+public record FileStamp(Path path, long lastModified, long size) {
+
+    /**
+     * Stamps the current state of a file.
+     *
+     * @param path the file to stamp
+     * @return the stamp of the file, with negative values if the file cannot be read
+     */
+    public static FileStamp of(final Path path) {
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileStamp(path, attributes.lastModifiedTime().toMillis(), attributes.size());
+        } catch (IOException e) {
+            return new FileStamp(path, -1, -1);
+        }
+    }
+
+    /**
+     * @return true if the file on disk still matches this stamp
+     */
+    public boolean isCurrent() {
+        return this.equals(of(path));
+    }
+}
@@ -0,0 +1,50 @@
+package it.unibo.templetower.utils;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe holder of a value computed on first access.
+ * A failing computation is not cached, so it is attempted again on the next access.
+ *
+ * @param <T> the type of the value
+ */
+public final class Lazy<T> {
+    private final Supplier<T> loader;
+    private volatile T value;
+
+    /**
+     * Creates a holder that computes its value with the given supplier.
+     *
+     * @param loader the supplier of the value, which must not return null
+     */
+    public Lazy(final Supplier<T> loader) {
+        this.loader = Objects.requireNonNull(loader);
+    }
+
+    /**
+     * Gets the value, computing it if it was never computed.
+     *
+     * @return the value
+     */
+    public T get() {
+        T current = value;
+        if (current == null) {
+            synchronized (this) {
+                current = value;
+                if (current == null) {
+                    current = Objects.requireNonNull(loader.get(), "Lazy value cannot be null");
+                    value = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return true if the value is currently computed
+     */
+    public boolean isLoaded() {
+        return value != null;
+    }
+}
@@ -0,0 +1,132 @@
+package it.unibo.templetower.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe cache bounded by the total weight of its values, such as their size in bytes.
+ * When a value does not fit in the budget, the least recently used values are evicted until it does;
+ * a value heavier than the whole budget is not cached at all.
+ * The cache counts its hits, misses and evictions, so that its budget can be tuned.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class LruCache<K, V> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final ToLongFunction<? super V> weigher;
+    // Iterated from the least recently used entry
+    private final Map<K, V> entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    private long budget;
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param budget the maximum total weight of the cached values
+     * @param weigher the function computing the weight of a value
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public LruCache(final long budget, final ToLongFunction<? super V> weigher) {
+        this.weigher = Objects.requireNonNull(weigher);
+        setBudget(budget);
+    }
+
+    /**
+     * Gets a cached value, marking it as the most recently used.
+     *
+     * @param key the key of the value
+     * @return the value, or null if it is not cached
+     */
+    public synchronized V get(final K key) {
+        final V value = entries.get(key);
+        if (value == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return value;
+    }
+
+    /**
+     * Caches a value, evicting the least recently used values if it does not fit in the budget.
+     * If the key is already cached, the value cached first is kept, so that concurrent loads of the same
+     * key all end up sharing a single value.
+     *
+     * @param key the key of the value
+     * @param value the value
+     * @return the value cached for the key
+     */
+    public synchronized V put(final K key, final V value) {
+        final V cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight <= budget) {
+            entries.put(key, value);
+            weight += valueWeight;
+            evictOverBudget();
+        }
+        return value;
+    }
+
+    /**
+     * Changes the budget, evicting the least recently used values if the cache exceeds it.
+     *
+     * @param newBudget the maximum total weight of the cached values
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public synchronized void setBudget(final long newBudget) {
+        if (newBudget < 0) {
+            throw new IllegalArgumentException("Cache budget cannot be negative");
+        }
+        this.budget = newBudget;
+        evictOverBudget();
+    }
+
+    /**
+     * Removes every value, keeping the counters.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * @return the counters of the cache at the time of the call
+     */
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, entries.size(), weight, budget);
+    }
+
+    private void evictOverBudget() {
+        final Iterator<V> values = entries.values().iterator();
+        while (weight > budget && values.hasNext()) {
+            weight -= weigher.applyAsLong(values.next());
+            values.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Counters of a cache.
+     *
+     * @param hits the number of lookups that found their value
+     * @param misses the number of lookups that did not find their value
+     * @param evictions the number of values evicted to respect the budget
+     * @param size the number of cached values
+     * @param weight the total weight of the cached values
+     * @param budget the maximum total weight of the cached values
+     */
+    public record Stats(long hits, long misses, long evictions, int size, long weight, long budget) {
+    }
+}
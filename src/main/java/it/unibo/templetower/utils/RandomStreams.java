@@ -0,0 +1,93 @@
+package it.unibo.templetower.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+/**
+ * Source of the random generators of a run, all derived from a single run seed.
+ * Every subsystem, and every floor within a subsystem, gets its own {@link SplittableRandom} whose seed
+ * depends only on the run seed and on the name and index of the stream. Streams are therefore independent
+ * of each other and of the order they are requested in: two runs with the same seed generate the same
+ * towers, and floors can be generated on different threads without sharing a generator.
+ */
+public final class RandomStreams {
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+    private static final long MIX_MULTIPLIER_1 = 0xBF58_476D_1CE4_E5B9L;
+    private static final long MIX_MULTIPLIER_2 = 0x94D0_49BB_1331_11EBL;
+    private static final int MIX_SHIFT_1 = 30;
+    private static final int MIX_SHIFT_2 = 27;
+    private static final int MIX_SHIFT_3 = 31;
+    private static final long FNV_OFFSET = 0xCBF2_9CE4_8422_2325L;
+    private static final long FNV_PRIME = 0x0100_0000_01B3L;
+
+    private final long seed;
+
+    /**
+     * Creates the streams of a run with the given seed.
+     *
+     * @param seed the run seed
+     */
+    public RandomStreams(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Creates the streams of a run with a seed that is not reproducible.
+     * The seed can still be read with {@link #seed()} to replay the run.
+     *
+     * @return the streams of a new run
+     */
+    public static RandomStreams unseeded() {
+        return new RandomStreams(new SecureRandom().nextLong());
+    }
+
+    /**
+     * @return the run seed
+     */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Creates the generator of a subsystem.
+     *
+     * @param subsystem the name of the subsystem
+     * @return a new generator, always producing the same sequence for the same run seed and name
+     */
+    public SplittableRandom stream(final String subsystem) {
+        return new SplittableRandom(mix(seed ^ hash(subsystem)));
+    }
+
+    /**
+     * Creates the generator of an element of a subsystem, such as the floor of a level.
+     *
+     * @param subsystem the name of the subsystem
+     * @param index the index of the element
+     * @return a new generator, always producing the same sequence for the same run seed, name and index
+     */
+    public SplittableRandom stream(final String subsystem, final long index) {
+        return new SplittableRandom(mix(mix(seed ^ hash(subsystem)) + GOLDEN_GAMMA * (index + 1)));
+    }
+
+    /*
+     * FNV-1a over the UTF-8 bytes, so that stream seeds do not depend on the JVM.
+     */
+    private static long hash(final String name) {
+        long hash = FNV_OFFSET;
+        for (final byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ Byte.toUnsignedInt(b)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /*
+     * SplitMix64 finalizer: spreads nearby inputs over unrelated outputs.
+     */
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> MIX_SHIFT_1)) * MIX_MULTIPLIER_1;
+        z = (z ^ (z >>> MIX_SHIFT_2)) * MIX_MULTIPLIER_2;
+        return z ^ (z >>> MIX_SHIFT_3);
+    }
+}
@@ -0,0 +1,98 @@
+package it.unibo.templetower.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable sampler drawing items with probability proportional to their weight,
+ * using Vose's alias method: setup is O(n) and every draw is O(1), whatever the number of items.
+ *
+ * @param <T> the type of the items
+ */
+public final class WeightedSampler<T> {
+    private final List<T> items;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Builds a sampler over the given items.
+     *
+     * @param items the items to draw, at least one
+     * @param weight the function giving the weight of an item, which must be finite and not negative
+     * @throws IllegalArgumentException if there are no items, a weight is invalid or all weights are zero
+     */
+    public WeightedSampler(final List<T> items, final ToDoubleFunction<? super T> weight) {
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("Cannot sample from an empty list");
+        }
+        this.items = List.copyOf(items);
+        final int size = this.items.size();
+        final double[] scaled = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            final double value = weight.applyAsDouble(this.items.get(i));
+            if (!Double.isFinite(value) || value < 0) {
+                throw new IllegalArgumentException("Invalid weight " + value + " for " + this.items.get(i));
+            }
+            scaled[i] = value;
+            total += value;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        this.probability = new double[size];
+        this.alias = new int[size];
+
+        // Scale the weights so that their mean is 1, then pair every small column with a large one
+        final Deque<Integer> small = new ArrayDeque<>();
+        final Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            scaled[i] = scaled[i] * size / total;
+            if (scaled[i] < 1) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            final int less = small.pop();
+            final int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+        // Leftovers are only due to rounding errors and are always taken
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1;
+        }
+    }
+
+    /**
+     * Draws an item.
+     *
+     * @param random the source of randomness
+     * @return the drawn item
+     */
+    public T sample(final RandomGenerator random) {
+        final int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? items.get(column) : items.get(alias[column]);
+    }
+
+    /**
+     * @return the items of the sampler, in their original order
+     */
+    public List<T> items() {
+        return items;
+    }
+}
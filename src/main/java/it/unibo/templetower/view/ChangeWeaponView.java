@@ -1,20 +1,30 @@
 package it.unibo.templetower.view;
 
+import java.util.List;
+
 import it.unibo.templetower.controller.GameController;
+import it.unibo.templetower.model.Weapon;
+import it.unibo.templetower.utils.AssetManager;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 
 /**
  * Change weapon view class.
  */
-public class ChangeWeaponView {
+public class ChangeWeaponView implements PooledView {
     private static final int VBOX_SPACING = 20;
     private static final int BT_WIDTH = 600;
     private static final int BT_HEIGHT = 300;
 
+    private SceneManager sceneManager;
+    private ImageView backgroundView;
+    private VBox vbox;
+    private Label titleLabel;
+
 
     /**
      * Creates and returns the change weapon scene with all necessary UI elements.
@@ -23,55 +33,45 @@ public class ChangeWeaponView {
      * @param controller
      * @return the created change weapon scene
      */
+    @Override
     public StackPane createScene(final SceneManager manager, final GameController controller) {
         final StackPane root = new StackPane();
-        final VBox vbox = new VBox(VBOX_SPACING);
+        root.setUserData(this);
+        this.sceneManager = manager;
+        vbox = new VBox(VBOX_SPACING);
         vbox.setAlignment(Pos.CENTER);
 
-        manager.setBackground(manager, root, controller.getBackgroundImage());
+        backgroundView = manager.addBackground(root);
 
 
-        final Label titleLabel = new Label("Select Weapon to Change");
+        titleLabel = new Label("Select Weapon to Change");
         titleLabel.setStyle("-fx-font-size: 36px; -fx-font-weight: bold; -fx-text-fill: black;");
 
-        vbox.getChildren().add(titleLabel);
-
-        if (!controller.getPlayerWeapons().isEmpty()) {
-            final Button weapon1 = new Button(controller.getPlayerWeapons().get(0).name() + " - Damage: "
-                    + controller.getPlayerWeapons().get(0).attack().getY());
-            weapon1.setOnAction(e -> {
-                controller.addPlayerWeapon(controller.getTreasureWeapon(), 0);
-                manager.switchTo("main_floor_view");
-            });
-            styleWeaponButton(weapon1);
-            vbox.getChildren().add(weapon1);
-        }
+        root.getChildren().add(vbox);
 
-        if (controller.getPlayerWeapons().size() >= 2) {
-            final Button weapon2 = new Button(controller.getPlayerWeapons().get(1).name() + " - Damage: "
-                    + controller.getPlayerWeapons().get(1).attack().getY());
-            weapon2.setOnAction(e -> {
-                controller.addPlayerWeapon(controller.getTreasureWeapon(), 1);
-                manager.switchTo("main_floor_view");
-            });
-            styleWeaponButton(weapon2);
-            vbox.getChildren().add(weapon2);
-        }
+        return root;
+    }
 
-        if (controller.getPlayerWeapons().size() == 3) {
-            final Button weapon3 = new Button(controller.getPlayerWeapons().get(2).name() + " - Damage: "
-                    + controller.getPlayerWeapons().get(2).attack().getY());
-            weapon3.setOnAction(e -> {
-                controller.addPlayerWeapon(controller.getTreasureWeapon(), 2);
-                manager.switchTo("main_floor_view");
+    /**
+     * Shows a button for every weapon of the player, replacing it with the weapon of the treasure.
+     *
+     * @param controller the game controller
+     */
+    @Override
+    public void reset(final GameController controller) {
+        backgroundView.setImage(AssetManager.getFileImage(controller.getBackgroundImage()));
+        vbox.getChildren().setAll(titleLabel);
+        final List<Weapon> weapons = controller.getPlayerWeapons();
+        for (int i = 0; i < weapons.size(); i++) {
+            final int index = i;
+            final Button weapon = new Button(weapons.get(i).name() + " - Damage: " + weapons.get(i).attack().getY());
+            weapon.setOnAction(e -> {
+                controller.addPlayerWeapon(controller.getTreasureWeapon(), index);
+                sceneManager.switchTo("main_floor_view");
             });
-            styleWeaponButton(weapon3);
-            vbox.getChildren().add(weapon3);
+            styleWeaponButton(weapon);
+            vbox.getChildren().add(weapon);
         }
-
-        root.getChildren().add(vbox);
-
-        return root;
     }
 
     /**
@@ -1,24 +1,19 @@
 package it.unibo.templetower.view;
 
-import java.io.File;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import it.unibo.templetower.controller.GameController;
+import it.unibo.templetower.controller.TurnResult;
+import it.unibo.templetower.utils.AssetManager;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
-import javafx.animation.PauseTransition;
 import javafx.animation.Timeline;
-import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
-import javafx.scene.control.ButtonType;
-import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
@@ -31,12 +26,8 @@ import javafx.util.Duration;
  * Represents the combat view of the game where battles take place.
  * This class is responsible for creating and managing the combat scene.
  */
-public final class CombatView {
+public final class CombatView implements PooledView {
     private static final int WINDOW_WIDTH = 800;
-    private static final int WINDOW_HEIGHT = 600;
-    private static final int DIALOG_WIDTH = 250;
-    private static final int DIALOG_HEIGHT = 80;
-    private static final int VBOX = 50;
     private static final int CHARACTER_SIZE = 150;
     private static final int BUTTON_WIDTH = 150;
     private static final int HEALTH_BAR_WIDTH = 200;
@@ -45,62 +36,47 @@ public final class CombatView {
     private static final int FIRE_START_Y = 200;
     private static final int DISTANCE_FROM_ENEMY = 30;
     private static final int DISTANCE_FROM_BOSS = 700;
+    private static final int FLAME_SIZE = 100;
+    private static final double MAX_LIFE = 100.0;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CombatView.class);
 
     private ProgressBar playerHealthBar;
     private ProgressBar enemyHealthBar;
+    private Label playerHpLabel;
+    private Label enemyHpLabel;
+    private ImageView playerImage;
+    private ImageView enemyImage;
     private Button attackBt;
     private Button exitBt;
-    private Boolean kill = true;
+    private ImageView backgroundView;
+    private HBox charactersBox;
+    private VBox spriteContainer;
+    private VBox rootBox;
+    private BorderPane healthBarsPane;
+    private VBox topBox;
 
     /**
      * Creates and returns the combat scene with all necessary UI elements.
+     * The scene is bound to the enemy of the current room when the view is reset.
      * 
      * @param manager    the scene manager to handle scene transitions
      * @param controller the game controller to handle game logic
      * @return the created combat scene
      */
+    @Override
     public StackPane createScene(final SceneManager manager, final GameController controller) {
         final StackPane root = new StackPane();
         root.getStyleClass().add("root");
-        final String bgImage;
-        final ImageView backgroundView = new ImageView();
-        try {
-            if (!controller.isBossTime()) {
-                bgImage = "/images/combat_room.jpg";
-            } else {
-                bgImage = "/images/final_arena.png";
-            }
-            final Image backgroundImage = new Image(getClass().getResource(bgImage).toExternalForm());
-            backgroundView.setImage(backgroundImage);
-            backgroundView.setPreserveRatio(false);
-            backgroundView.fitWidthProperty().bind(root.widthProperty());
-            backgroundView.fitHeightProperty().bind(root.heightProperty());
-            root.getChildren().add(backgroundView);
-        } catch (IllegalArgumentException e) {
-            LOGGER.error("Failed to load background image: {}", e.getMessage());
-            final Label errorLabel = new Label("Background image not found.");
-            errorLabel.getStyleClass().add("label");
-            root.getChildren().add(errorLabel);
-            return root;
-        }
+        root.setUserData(this);
+        backgroundView = new ImageView();
+        backgroundView.setPreserveRatio(false);
+        backgroundView.fitWidthProperty().bind(root.widthProperty());
+        backgroundView.fitHeightProperty().bind(root.heightProperty());
+        root.getChildren().add(backgroundView);
 
-        final ImageView enemyImage;
-        final String imagePath = controller.getEnemyPath();
-        final File file = new File(imagePath);
-        final String playerImg;
-        final String enemyImg;
-        if (!controller.isBossTime()) {
-            playerImg = "/images/player.png";
-            enemyImage = new ImageView(new Image(file.toURI().toString()));
-        } else {
-            playerImg = "/images/playerback.png";
-            enemyImg = "/images/boss.png";
-            enemyImage = new ImageView(new Image(getClass().getResource(enemyImg).toExternalForm()));
-        }
-
-        final ImageView playerImage = new ImageView(new Image(getClass().getResource(playerImg).toExternalForm()));
+        enemyImage = new ImageView();
+        playerImage = new ImageView();
 
         playerImage.setFitWidth(CHARACTER_SIZE);
         playerImage.setFitHeight(CHARACTER_SIZE);
@@ -113,10 +89,10 @@ public final class CombatView {
         exitBt = new Button("Exit");
         exitBt.getStyleClass().add("button");
 
-        playerHealthBar = new ProgressBar(controller.getPlayerLife() / 100);
+        playerHealthBar = new ProgressBar();
         playerHealthBar.getStyleClass().add("health-bar-player");
 
-        enemyHealthBar = new ProgressBar(controller.getEnemyLifePoints() / 100);
+        enemyHealthBar = new ProgressBar();
         enemyHealthBar.getStyleClass().add("health-bar-enemy");
 
         root.widthProperty().addListener((obs, oldWidth, newWidth) -> {
@@ -130,149 +106,44 @@ public final class CombatView {
             playerHealthBar.setPrefWidth(HEALTH_BAR_WIDTH * scaleFactor);
             enemyHealthBar.setPrefWidth(HEALTH_BAR_WIDTH * scaleFactor);
         });
-        final HBox charactersBox = new HBox(20);
-        final VBox rootBox = new VBox();
+        charactersBox = new HBox(20);
+        charactersBox.setAlignment(Pos.BOTTOM_CENTER);
+        rootBox = new VBox();
         rootBox.setAlignment(Pos.BOTTOM_CENTER);
 
-        final VBox spriteContainer = new VBox(100);
-        if (!controller.isBossTime()) {
-            charactersBox.setAlignment(Pos.BOTTOM_CENTER);
-            charactersBox.getChildren().addAll(playerImage, enemyImage);
-        } else {
-            rootBox.setAlignment(Pos.BOTTOM_CENTER);
-            spriteContainer.getChildren().addAll(enemyImage, playerImage);
-            spriteContainer.setStyle("-fx-alignment: center;");
-            rootBox.getChildren().add(spriteContainer);
-        }
+        spriteContainer = new VBox(100);
+        spriteContainer.setStyle("-fx-alignment: center;");
 
-        final BorderPane healthBarsPane = new BorderPane();
+        healthBarsPane = new BorderPane();
         healthBarsPane.setPadding(new Insets(10));
 
-        final Label playerHpLabel = new Label(controller.getPlayerLife() + "HP");
+        playerHpLabel = new Label();
         playerHpLabel.getStyleClass().add("label");
         final VBox playerHealthBox = new VBox(5, playerHpLabel, playerHealthBar);
         playerHealthBox.setAlignment(Pos.BOTTOM_LEFT);
         healthBarsPane.setLeft(playerHealthBox);
 
-        final Label enemyHpLabel = new Label(controller.getEnemyLifePoints() + "HP");
+        enemyHpLabel = new Label();
         enemyHpLabel.getStyleClass().add("label");
         final VBox enemyHealthBox = new VBox(5, enemyHpLabel, enemyHealthBar);
         enemyHealthBox.setAlignment(Pos.BOTTOM_RIGHT);
         healthBarsPane.setRight(enemyHealthBox);
 
-        if (controller.getEnemyLifePoints() > 0) {
-            exitBt.setDisable(true);
-        }
-
-        if (controller.getEnemyLifePoints() <= 0.0) {
-            attackBt.setDisable(true);
-            enemyHpLabel.setText("0HP");
-            enemyHealthBar.setProgress(0 / 100);
-        }
-
-        exitBt.setOnAction(event -> {
-            LOGGER.debug("Enemy life points: {}", controller.getEnemyLifePoints());
-            manager.switchTo("main_floor_view");
-        });
+        exitBt.setOnAction(event -> manager.switchTo("main_floor_view"));
 
         attackBt.setOnAction(event -> {
-            LOGGER.debug("Enemy life points: {}", controller.getEnemyLifePoints());
-
-            final ImageView attackImage = new ImageView(new Image(getClass().getResourceAsStream("/images/flame.gif")));
-            attackImage.setFitWidth(100);
-            attackImage.setFitHeight(100);
-            attackImage.setLayoutX(playerImage.getLayoutX() + FIRE_START_X);
-            attackImage.setLayoutY(playerImage.getLayoutY() + FIRE_START_Y);
-
-            ((Pane) playerImage.getParent()).getChildren().add(attackImage);
-
-            final double distance;
-            final KeyValue kv;
-            final KeyFrame kf;
-
-            final Timeline timeline = new Timeline();
-            if (controller.isBossTime()) {
-                distance = enemyImage.getLayoutX() - playerImage.getLayoutX() - DISTANCE_FROM_BOSS;
-                kv = new KeyValue(attackImage.translateYProperty(), distance);
-                kf = new KeyFrame(Duration.seconds(1), kv);
-            } else {
-                ((Pane) attackImage.getParent()).getChildren().remove(attackImage);
-                distance = enemyImage.getLayoutX() - playerImage.getLayoutX() - DISTANCE_FROM_ENEMY;
-                kv = new KeyValue(playerImage.translateXProperty(), distance);
-                kf = new KeyFrame(Duration.seconds(0.5), kv);
+            // The turn is played by the controller; the button comes back once its strikes were shown
+            if (controller.requestAttack()) {
+                attackBt.setDisable(true);
             }
-
-            timeline.getKeyFrames().add(kf);
-
-            timeline.setOnFinished(event1 -> {
-                if (controller.isBossTime()) {
-                    ((Pane) attackImage.getParent()).getChildren().remove(attackImage);
-                }
-                controller.attackEnemy();
-
-                final PauseTransition pause = new PauseTransition(Duration.millis(200));
-                pause.setOnFinished(event2 -> {
-                    Platform.runLater(() -> {
-                        if (controller.getEnemyLifePoints() <= 0) {
-                            enemyHpLabel.setText(ZEROHP);
-                            attackBt.setDisable(true);
-                            controller.resetPlayerLife();
-                            enemyHealthBar.setProgress(0 / 100.0);
-                            kill = false;
-                        } else if (kill) {
-                            controller.attackPlayer();
-
-                            final PauseTransition pause2 = new PauseTransition(Duration.millis(100));
-                            pause2.setOnFinished(event3 -> {
-                                playerHealthBar.setProgress(controller.getPlayerLife() / 100.0);
-                                playerHpLabel.setText(controller.getPlayerLife() + "HP");
-
-                                if (controller.getPlayerLife() <= 0) {
-                                    attackBt.setDisable(true);
-                                    playerHpLabel.setText(ZEROHP);
-                                    controller.resetGame();
-                                    popUp(() -> manager.switchTo("home"));
-                                }
-                            });
-                            pause2.play();
-                        }
-
-                        playerHealthBar.setProgress(controller.getPlayerLife() / 100.0);
-                        enemyHealthBar.setProgress(controller.getEnemyLifePoints() / 100.0);
-
-                        playerHpLabel.setText(controller.getPlayerLife() + "HP");
-                        enemyHpLabel.setText(controller.getEnemyLifePoints() + "HP");
-
-                        if (controller.getEnemyLifePoints() <= 0) {
-                            enemyHealthBar.setProgress(0 / 100.0);
-                            enemyHpLabel.setText(ZEROHP);
-                            attackBt.setDisable(true);
-                            exitBt.setDisable(false);
-                            if (controller.getPlayerLife() < 100) {
-                                controller.resetPlayerLife();
-                            }
-                        } else if (controller.getPlayerLife() <= 0) {
-                            playerHealthBar.setProgress(0 / 100.0);
-                            attackBt.setDisable(true);
-                            playerHpLabel.setText(ZEROHP);
-                            controller.resetGame();
-                            Platform.runLater(() -> popUp(() -> manager.switchTo("home")));
-                        }
-
-                        playerImage.setTranslateX(0);
-                    });
-                });
-                pause.play();
-            });
-
-            timeline.play();
         });
+        controller.getEventBus().subscribe(TurnResult.class, result -> showTurn(result, controller));
 
         final HBox buttonBox = new HBox(20, attackBt, exitBt);
         buttonBox.setAlignment(Pos.BOTTOM_CENTER);
         healthBarsPane.setBottom(buttonBox);
 
-        final VBox topBox = new VBox();
+        topBox = new VBox();
         topBox.setAlignment(Pos.TOP_RIGHT);
 
         final Button changeWeapon = new Button("CHANGE WEAPON");
@@ -285,79 +156,109 @@ public final class CombatView {
             manager.switchTo("select_weapon_view");
         });
 
-        if (!controller.isBossTime()) {
-            rootBox.getChildren().addAll(charactersBox, healthBarsPane, topBox);
-        } else {
-            rootBox.getChildren().addAll(healthBarsPane, topBox);
-        }
         root.getChildren().add(rootBox);
 
-        root.getStylesheets().add(getClass().getResource("/css/Combat.css").toExternalForm());
-        resetCombat(controller);
+        StylesheetRegistry.attach(root, StylesheetRegistry.COMBAT);
 
         return root;
     }
 
-    private void resetCombat(final GameController controller) {
-        kill = true;
-
-        playerHealthBar.setProgress(controller.getPlayerLife() / 100);
-        enemyHealthBar.setProgress(controller.getEnemyLifePoints() / 100);
-
-        final Label playerHpLabel = new Label();
-        final Label enemyHpLabel = new Label();
-
-        playerHpLabel.setText(controller.getPlayerLife() + "HP");
-        enemyHpLabel.setText(controller.getEnemyLifePoints() + "HP");
-    }
-
     /**
-     * Shows a popup dialog for the end of the game.
-     * 
-     * @param onClose callback to be executed when the dialog is closed.
+     * Binds the view to the enemy of the current room: the boss is fought in its own arena.
+     *
+     * @param controller the game controller
      */
-    private void popUp(final Runnable onClose) {
-        final Dialog<Void> dialog = new Dialog<>();
-        dialog.setTitle("GAME OVER");
-        dialog.setHeaderText(null);
-
-        dialog.getDialogPane().setPrefSize(WINDOW_WIDTH, WINDOW_HEIGHT);
-
-        final Label loseLabel = new Label("YOU LOSE THE GAME");
-        loseLabel.setStyle("-fx-font-size: 50px; -fx-font-weight: bold; -fx-text-fill: red;");
-
-        dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
-
-        final Button btLeave = new Button("Leave");
-        btLeave.setStyle("-fx-font-size: 20px; -fx-padding: 15px 30px;");
-        btLeave.setPrefSize(DIALOG_WIDTH, DIALOG_HEIGHT);
-
-        btLeave.setOnAction(event -> {
-            LOGGER.info("Restart the game");
-            dialog.setResult(null);
-            dialog.close();
-            if (onClose != null) {
-                onClose.run();
-            }
-        });
-
-        final HBox btContainer = new HBox(btLeave);
-        btContainer.setAlignment(Pos.CENTER);
-
-        final VBox layout = new VBox(VBOX, loseLabel, btContainer);
-        layout.setAlignment(Pos.CENTER);
-
-        dialog.getDialogPane().setContent(layout);
+    @Override
+    public void reset(final GameController controller) {
+        final boolean bossTime = controller.isBossTime();
+        final String bgImage = bossTime ? "/images/final_arena.png" : "/images/combat_room.jpg";
+        try {
+            backgroundView.setImage(AssetManager.getResourceImage(bgImage));
+        } catch (final IllegalArgumentException e) {
+            LOGGER.error("Failed to load background image: {}", e.getMessage());
+        }
+        if (bossTime) {
+            playerImage.setImage(AssetManager.getResourceImage("/images/playerback.png"));
+            enemyImage.setImage(AssetManager.getResourceImage("/images/boss.png"));
+            charactersBox.getChildren().clear();
+            spriteContainer.getChildren().setAll(enemyImage, playerImage);
+            rootBox.getChildren().setAll(spriteContainer, healthBarsPane, topBox);
+        } else {
+            playerImage.setImage(AssetManager.getResourceImage("/images/player.png"));
+            enemyImage.setImage(AssetManager.getFileImage(controller.getEnemyPath()));
+            spriteContainer.getChildren().clear();
+            charactersBox.getChildren().setAll(playerImage, enemyImage);
+            rootBox.getChildren().setAll(charactersBox, healthBarsPane, topBox);
+        }
+        playerImage.setTranslateX(0);
+
+        // The lives are read once: later changes are received from the event bus of the controller
+        final double enemyLife = controller.getEnemyLifePoints();
+        showLife(playerHealthBar, playerHpLabel, controller.getPlayerLife());
+        showLife(enemyHealthBar, enemyHpLabel, enemyLife);
+        attackBt.setDisable(enemyLife <= 0);
+        exitBt.setDisable(enemyLife > 0);
+    }
 
-        dialog.setOnCloseRequest(event -> {
-            LOGGER.info("Popup closed with X");
-            dialog.setResult(null);
-            if (onClose != null) {
-                onClose.run();
+    /*
+     * Shows the result of a combat action. The action was already played by the controller,
+     * so the animations only show it. A lost fight leaves the buttons disabled: the scene manager
+     * ends the game when the controller reports the death of the player.
+     */
+    private void showTurn(final TurnResult result, final GameController controller) {
+        if (result.action() == TurnResult.Action.ENEMY_STRIKE) {
+            showLife(playerHealthBar, playerHpLabel, result.playerLife());
+            return;
+        }
+        playStrike(controller.isBossTime(), () -> {
+            showLife(enemyHealthBar, enemyHpLabel, result.enemyLife());
+            showLife(playerHealthBar, playerHpLabel, result.playerLife());
+            switch (result.outcome()) {
+                case PLAYER_WON -> exitBt.setDisable(false);
+                case ENEMY_WON -> LOGGER.info("The player lost the fight");
+                default -> attackBt.setDisable(false);
             }
         });
+    }
 
-        dialog.showAndWait();
+    /*
+     * Plays the animation of the player's strike: a flame thrown at the boss, or a lunge at the enemy.
+     */
+    private void playStrike(final boolean bossTime, final Runnable onFinished) {
+        final Timeline timeline = new Timeline();
+        if (bossTime) {
+            final ImageView attackImage = new ImageView(
+                AssetManager.getResourceImage("/images/flame.gif", FLAME_SIZE, FLAME_SIZE));
+            attackImage.setLayoutX(playerImage.getLayoutX() + FIRE_START_X);
+            attackImage.setLayoutY(playerImage.getLayoutY() + FIRE_START_Y);
+            final Pane parent = (Pane) playerImage.getParent();
+            parent.getChildren().add(attackImage);
+            final double distance = enemyImage.getLayoutX() - playerImage.getLayoutX() - DISTANCE_FROM_BOSS;
+            timeline.getKeyFrames().add(new KeyFrame(Duration.seconds(1),
+                new KeyValue(attackImage.translateYProperty(), distance)));
+            timeline.setOnFinished(event -> {
+                parent.getChildren().remove(attackImage);
+                onFinished.run();
+            });
+        } else {
+            final double distance = enemyImage.getLayoutX() - playerImage.getLayoutX() - DISTANCE_FROM_ENEMY;
+            timeline.getKeyFrames().add(new KeyFrame(Duration.seconds(0.5),
+                new KeyValue(playerImage.translateXProperty(), distance)));
+            timeline.setOnFinished(event -> {
+                playerImage.setTranslateX(0);
+                onFinished.run();
+            });
+        }
+        timeline.play();
     }
 
+    private static void showLife(final ProgressBar bar, final Label label, final double life) {
+        if (life <= 0) {
+            bar.setProgress(0);
+            label.setText(ZEROHP);
+        } else {
+            bar.setProgress(life / MAX_LIFE);
+            label.setText(life + "HP");
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package it.unibo.templetower.view;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws the ring of the rooms of a floor on a single canvas: the division lines, sprites and labels
+ * of every room are drawn in one pass, so that the cost of showing a floor does not grow with the number
+ * of nodes in the scene graph. Rooms are laid out clockwise from the right of the ring, each one centered
+ * in a sector of the same angle, and the room under a point is found from its angle.
+ */
+final class FloorRingRenderer {
+    /** Index returned when a point is not inside a room. */
+    static final int NO_ROOM = -1;
+
+    private static final double FULL_TURN = 2 * Math.PI;
+    private static final double MAX_SPRITE_SIZE = 100.0;
+    // Share of the room's sector covered by its sprite
+    private static final double SPRITE_FILL = 0.8;
+    private static final double MIN_LABEL_SIZE = 40.0;
+    private static final double ROOM_LABEL_MARGIN = 10.0;
+    private static final double ROOM_LABEL_OFFSET = 25.0;
+
+    private final Canvas canvas = new Canvas();
+    private final List<Image> sprites = new ArrayList<>();
+    private double centerX;
+    private double centerY;
+    private double innerRadius;
+    private double outerRadius;
+
+    /**
+     * @return the canvas the ring is drawn on
+     */
+    Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Sets the rooms of the ring, drawn at the next layout.
+     *
+     * @param roomSprites the sprite of every room, in room order
+     */
+    void setRooms(final List<Image> roomSprites) {
+        sprites.clear();
+        sprites.addAll(roomSprites);
+    }
+
+    /**
+     * @return the number of rooms of the ring
+     */
+    int getRoomCount() {
+        return sprites.size();
+    }
+
+    /**
+     * Resizes the canvas and draws the ring again.
+     *
+     * @param width the width of the canvas
+     * @param height the height of the canvas
+     * @param inner the radius of the inner circle of the ring
+     * @param outer the radius of the outer circle of the ring
+     */
+    void layout(final double width, final double height, final double inner, final double outer) {
+        canvas.setWidth(width);
+        canvas.setHeight(height);
+        this.centerX = width / 2;
+        this.centerY = height / 2;
+        this.innerRadius = inner;
+        this.outerRadius = outer;
+        draw();
+    }
+
+    /**
+     * Finds the room under a point of the canvas.
+     *
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @return the index of the room, or {@link #NO_ROOM} if the point is not between the circles of the ring
+     */
+    int roomAt(final double x, final double y) {
+        final double distance = Math.hypot(x - centerX, y - centerY);
+        if (sprites.isEmpty() || distance < innerRadius || distance > outerRadius) {
+            return NO_ROOM;
+        }
+        final double sector = FULL_TURN / sprites.size();
+        // Rooms are centered on their angle, so the first sector starts half a sector before it
+        final double angle = Math.atan2(y - centerY, x - centerX) + sector / 2;
+        return Math.floorMod((int) Math.floor(angle / sector), sprites.size());
+    }
+
+    /**
+     * Gets the start angle of the sector of a room, in the counterclockwise degrees used by arcs.
+     *
+     * @param room the index of the room
+     * @return the start angle of the sector
+     */
+    double sectorStartAngle(final int room) {
+        return -Math.toDegrees(FULL_TURN * (room + 0.5) / sprites.size());
+    }
+
+    /**
+     * @return the angle covered by the sector of each room, in degrees
+     */
+    double sectorLength() {
+        return sprites.isEmpty() ? 0 : 360.0 / sprites.size();
+    }
+
+    private void draw() {
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        final int rooms = sprites.size();
+        if (rooms == 0) {
+            return;
+        }
+        final double sector = FULL_TURN / rooms;
+        final double roomRadius = (innerRadius + outerRadius) / 2;
+        final double size = Math.min(MAX_SPRITE_SIZE,
+                SPRITE_FILL * Math.min(outerRadius - innerRadius, sector * roomRadius));
+
+        gc.setStroke(Color.WHITE);
+        gc.setFill(Color.WHITE);
+        gc.beginPath();
+        for (int i = 0; i < rooms; i++) {
+            final double angle = sector * i;
+            // Division line on the border before the room
+            final double border = angle - sector / 2;
+            gc.moveTo(centerX + innerRadius * Math.cos(border), centerY + innerRadius * Math.sin(border));
+            gc.lineTo(centerX + outerRadius * Math.cos(border), centerY + outerRadius * Math.sin(border));
+
+            final double left = centerX + roomRadius * Math.cos(angle) - size / 2;
+            final double top = centerY + roomRadius * Math.sin(angle) - size / 2;
+            gc.drawImage(sprites.get(i), left, top, size, size);
+            if (size >= MIN_LABEL_SIZE) {
+                gc.fillText("R" + (i + 1), left + ROOM_LABEL_MARGIN, top + ROOM_LABEL_OFFSET);
+            }
+        }
+        gc.stroke();
+    }
+}
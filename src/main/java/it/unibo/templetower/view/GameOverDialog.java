@@ -0,0 +1,76 @@
+package it.unibo.templetower.view;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * Popup shown when the player dies, wherever the player was in the tower.
+ */
+final class GameOverDialog {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameOverDialog.class);
+    private static final int WINDOW_WIDTH = 800;
+    private static final int WINDOW_HEIGHT = 600;
+    private static final int DIALOG_WIDTH = 250;
+    private static final int DIALOG_HEIGHT = 80;
+    private static final int VBOX = 50;
+
+    private GameOverDialog() {
+    }
+
+    /**
+     * Shows the popup for the end of the game and waits for it to be closed.
+     *
+     * @param onClose callback to be executed when the dialog is closed.
+     */
+    static void show(final Runnable onClose) {
+        final Dialog<Void> dialog = new Dialog<>();
+        dialog.setTitle("GAME OVER");
+        dialog.setHeaderText(null);
+
+        dialog.getDialogPane().setPrefSize(WINDOW_WIDTH, WINDOW_HEIGHT);
+
+        final Label loseLabel = new Label("YOU LOSE THE GAME");
+        loseLabel.setStyle("-fx-font-size: 50px; -fx-font-weight: bold; -fx-text-fill: red;");
+
+        dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        final Button btLeave = new Button("Leave");
+        btLeave.setStyle("-fx-font-size: 20px; -fx-padding: 15px 30px;");
+        btLeave.setPrefSize(DIALOG_WIDTH, DIALOG_HEIGHT);
+
+        btLeave.setOnAction(event -> {
+            LOGGER.info("Restart the game");
+            dialog.setResult(null);
+            dialog.close();
+            if (onClose != null) {
+                onClose.run();
+            }
+        });
+
+        final HBox btContainer = new HBox(btLeave);
+        btContainer.setAlignment(Pos.CENTER);
+
+        final VBox layout = new VBox(VBOX, loseLabel, btContainer);
+        layout.setAlignment(Pos.CENTER);
+
+        dialog.getDialogPane().setContent(layout);
+
+        dialog.setOnCloseRequest(event -> {
+            LOGGER.info("Popup closed with X");
+            dialog.setResult(null);
+            if (onClose != null) {
+                onClose.run();
+            }
+        });
+
+        dialog.showAndWait();
+    }
+}
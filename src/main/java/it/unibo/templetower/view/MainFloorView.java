@@ -1,14 +1,15 @@
 package it.unibo.templetower.view;
 
-import java.io.InputStream;
-import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import it.unibo.templetower.controller.GameController;
+import it.unibo.templetower.controller.GameEvent.FloorChanged;
+import it.unibo.templetower.controller.GameEvent.RoomSelected;
+import it.unibo.templetower.utils.AssetManager;
 import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
 import javafx.application.Platform;
@@ -16,7 +17,6 @@ import javafx.geometry.Pos;
 import javafx.scene.control.ToggleButton;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
@@ -25,8 +25,6 @@ import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Arc;
 import javafx.scene.shape.ArcType;
 import javafx.scene.shape.Circle;
-import javafx.scene.shape.Line;
-import javafx.scene.text.Text;
 import javafx.stage.Screen;
 import javafx.util.Duration;
 
@@ -37,27 +35,27 @@ import javafx.util.Duration;
  * floor views.
  * Subclasses should override createScene to customize the floor appearance.
  */
-public class MainFloorView {
+public class MainFloorView implements PooledView {
     private static final double OUTER_RADIUS = Screen.getPrimary().getVisualBounds().getHeight() / 3;
     private static final double INNER_RADIUS = OUTER_RADIUS * 0.5;
     private static final double INNER_CIRCLE_RATIO = 5.0;
     private static final double BUTTON_VERTICAL_POSITION = 1.1;
     private static final double FADE_DURATION = 0.8;
     private static final double FADE_MIN_OPACITY = 0.3;
-    private static final double ANGLE_OFFSET = 26.5;
-    private static final double ROOM_LABEL_OFFSET = 25.0;
     private static final int SHADOW_SPREAD = 25;
     private static final int SHADOW_Y_OFFSET = 2;
     private static final Color HIGHLIGHT_COLOR = Color.rgb(138, 74, 243);
-    private static final int SECTOR_ANGLE_OFFSET = 35;
+    private static final int ROOM_SPRITE_SIZE = 100;
     private static final Logger LOGGER = LoggerFactory.getLogger(MainFloorView.class);
     private Pane dPane;
     private Circle outer;
     private Circle inner;
+    private final FloorRingRenderer ring = new FloorRingRenderer();
+    private final Arc highlightedSector = new Arc();
     private HBox buttons;
     private ToggleButton enter;
-    private int nRooms;
-    private final Map<Integer, Arc> sectorMap = new HashMap<>();
+    private final FadeTransition highlight = new FadeTransition(Duration.seconds(FADE_DURATION));
+    private boolean ringStale = true;
 
     /**
      * Creates and returns the main scene for the floor view.
@@ -66,33 +64,83 @@ public class MainFloorView {
      * @param controller The game controller
      * @return The created scene
      */
+    @Override
     public BorderPane createScene(final SceneManager manager, final GameController controller) {
         // Background
         final BorderPane root = new BorderPane();
-        dPane = new Pane();
+        root.setUserData(this);
+        // The ring is laid out with the pane, so that the size changes of a pulse move it once
+        dPane = new Pane() {
+            @Override
+            protected void layoutChildren() {
+                super.layoutChildren();
+                layoutFloor(controller);
+            }
+        };
         root.setCenter(dPane);
         root.setId("circle-room-back");
 
-        // Inner and outer circles for create the rooms container
-        this.nRooms = controller.getNumberOfRooms();
+        // Inner and outer circles for create the rooms container, placed around the canvas drawing the rooms
         outer = createCircle("outer-circle-rooms", OUTER_RADIUS);
         inner = createCircle("inner-circle-rooms", INNER_RADIUS);
-        dPane.getChildren().addAll(outer, inner);
+        applyInnerCircleTexture();
+        // A single sector node is animated over the canvas, whatever the number of rooms
+        highlightedSector.setType(ArcType.ROUND);
+        highlightedSector.setFill(HIGHLIGHT_COLOR);
+        highlightedSector.setMouseTransparent(true);
+        highlightedSector.setVisible(false);
+        // Positioned by the floor layout, so the pane does not need to lay them out again when they move
+        outer.setManaged(false);
+        ring.getCanvas().setManaged(false);
+        highlightedSector.setManaged(false);
+        inner.setManaged(false);
+        dPane.getChildren().addAll(outer, ring.getCanvas(), highlightedSector, inner);
+
+        // Rooms are hit-tested by angle, so clicking a room selects it
+        ring.getCanvas().setOnMouseClicked(e -> {
+            final int room = ring.roomAt(e.getX(), e.getY());
+            if (room != FloorRingRenderer.NO_ROOM) {
+                controller.changeRoom(room - controller.getPlayerActualRoom());
+            }
+        });
 
-        // Listener for keeping the pane responsive to screen size changes
-        root.widthProperty().addListener((obs, oldVal, newVal) -> adaptScene(root, controller));
-        root.heightProperty().addListener((obs, oldVal, newVal) -> adaptScene(root, controller));
+        highlight.setNode(highlightedSector);
+        highlight.setFromValue(1.0);
+        highlight.setToValue(FADE_MIN_OPACITY);
+        highlight.setCycleCount(Animation.INDEFINITE);
+        highlight.setAutoReverse(true);
 
         // Control buttons
-        createButtons(controller, manager);
-
-        root.sceneProperty().addListener(
-                (obs, oldVal, newVal) -> Platform.runLater(() -> highlightSector(controller.getPlayerActualRoom())));
+        createButtons(controller);
+
+        // The sectors are highlighted, and the rooms built again, only when the controller publishes a change
+        controller.getEventBus().subscribe(RoomSelected.class, selection -> {
+            enter.setDisable(!selection.enterable());
+            highlightSector(selection.room());
+        });
+        controller.getEventBus().subscribe(FloorChanged.class, floor -> {
+            ringStale = true;
+            dPane.requestLayout();
+        });
 
         return root;
     }
 
-    private void createButtons(final GameController controller, final SceneManager manager) {
+    /**
+     * Selects the room of the player again, as the player may have entered it since the floor was shown.
+     *
+     * @param controller The game controller
+     */
+    @Override
+    public void reset(final GameController controller) {
+        final int room = controller.getPlayerActualRoom();
+        if (room < controller.getEnabledList().size()) {
+            enter.setDisable(controller.getEnabledList().get(room));
+        }
+        Platform.runLater(() -> highlightSector(room));
+    }
+
+    private void createButtons(final GameController controller) {
         final ToggleButton left = new ToggleButton("<");
         final ToggleButton right = new ToggleButton(">");
         enter = new ToggleButton("ENTRA");
@@ -111,8 +159,8 @@ public class MainFloorView {
         // When the right button is clicked, the player moves to the next room
         right.setOnMouseClicked(e -> handleRoomChange(controller, 1));
 
-        // When the enter button is clicked, the player moves to the first room
-        enter.setOnMouseClicked(e -> handleRoomEnter(controller, manager));
+        // When the enter button is clicked, the player enters the selected room, which the scene manager then shows
+        enter.setOnMouseClicked(e -> controller.enterRoom());
 
         dPane.getChildren().add(buttons);
     }
@@ -120,18 +168,6 @@ public class MainFloorView {
     // when the room changes, the sector is highlighted
     private void handleRoomChange(final GameController controller, final int direction) {
         controller.changeRoom(direction);
-        if (!controller.getEnabledList().isEmpty()) {
-            enter.setDisable(controller.getEnabledList().get(controller.getPlayerActualRoom()));
-        }
-        highlightSector(controller.getPlayerActualRoom());
-    }
-
-    private void handleRoomEnter(final GameController controller, final SceneManager manager) {
-        highlightSector(controller.getPlayerActualRoom());
-        manager.switchTo(controller.enterRoom());
-        if (!controller.getEnabledList().isEmpty()) {
-            enter.setDisable(controller.getEnabledList().get(controller.getPlayerActualRoom()));
-        }
     }
 
     private Circle createCircle(final String id, final double radius) {
@@ -140,45 +176,49 @@ public class MainFloorView {
         return circle;
     }
 
-    // Adapts the scene to the screen size
-    private void adaptScene(final Pane scene, final GameController controller) {
-        final double centerX = scene.getWidth() / 2;
-        final double centerY = scene.getHeight() / 2;
-
-        updateCirclePositionAndRadius(outer, centerX, centerY,
-                Math.min(scene.getWidth(), scene.getHeight()) / 3);
-        updateCirclePositionAndRadius(inner, centerX, centerY,
-                Math.min(scene.getWidth(), scene.getHeight()) / INNER_CIRCLE_RATIO);
+    // Builds the rooms of a new floor, then fits the whole floor to the size of the pane
+    private void layoutFloor(final GameController controller) {
+        if (ringStale) {
+            ringStale = false;
+            buildRing(controller);
+        }
+        final double width = dPane.getWidth();
+        final double height = dPane.getHeight();
+        final double centerX = width / 2;
+        final double centerY = height / 2;
 
-        final double roomRadius = (outer.getRadius() + inner.getRadius()) / 2;
-        dPane.getChildren().removeIf(node -> node instanceof ImageView || node instanceof Arc || node instanceof Text
-                || node instanceof Line || node instanceof HBox);
+        updateCirclePositionAndRadius(outer, centerX, centerY, Math.min(width, height) / 3);
+        updateCirclePositionAndRadius(inner, centerX, centerY, Math.min(width, height) / INNER_CIRCLE_RATIO);
 
         buttons.setLayoutX(centerX - buttons.getPrefWidth() * 3 / 2);
-        buttons.setLayoutY(scene.getHeight() / BUTTON_VERTICAL_POSITION);
+        buttons.setLayoutY(height / BUTTON_VERTICAL_POSITION);
 
-        dPane.getChildren().add(buttons);
-        sectorMap.clear();
+        ring.layout(width, height, inner.getRadius(), outer.getRadius());
+        highlightedSector.setCenterX(centerX);
+        highlightedSector.setCenterY(centerY);
+        highlightedSector.setRadiusX(outer.getRadius());
+        highlightedSector.setRadiusY(outer.getRadius());
+    }
 
-        for (int i = 0; i < controller.getNumberOfRooms(); i++) {
-            createRoomAndSector(controller, i, centerX, centerY, roomRadius, controller.isRoomToDisplay());
+    // The rooms are built once per floor, so that the hidden rooms are rolled once and the sprites are not reloaded
+    private void buildRing(final GameController controller) {
+        final int rooms = controller.getNumberOfRooms();
+        final List<Image> sprites = new ArrayList<>(rooms);
+        for (int i = 0; i < rooms; i++) {
+            sprites.add(roomSprite(controller, controller.isRoomToDisplay(), i));
         }
-
-        applyInnerCircleTexture();
-        Platform.runLater(() -> highlightSector(controller.getPlayerActualRoom()));
+        ring.setRooms(sprites);
+        highlightedSector.setLength(ring.sectorLength());
+        highlightSector(controller.getPlayerActualRoom());
     }
 
     private void applyInnerCircleTexture() {
         try {
-            final URL imageUrl = MainFloorView.class.getResource("/images/inner_circle_background.png");
-            if (imageUrl != null) {
-                inner.setFill(new ImagePattern(new Image(imageUrl.toExternalForm(), false)));
-            }
+            inner.setFill(new ImagePattern(AssetManager.getResourceImage("/images/inner_circle_background.png")));
         } catch (IllegalArgumentException e) {
             LOGGER.error("Failed to load inner circle background image" + e);
         }
         inner.setEffect(new DropShadow(SHADOW_SPREAD, 0d, SHADOW_Y_OFFSET, Color.DARKSEAGREEN));
-        inner.toFront();
     }
 
     private void updateCirclePositionAndRadius(final Circle circle, final double centerX,
@@ -188,94 +228,29 @@ public class MainFloorView {
         circle.setRadius(radius);
     }
 
-    private void createRoomAndSector(final GameController controller, final int roomIndex, final double centerX,
-            final double centerY, final double roomRadius, final boolean isToDisplay) {
-        final double angle = 2 * Math.PI / nRooms * roomIndex;
-        final double x = centerX + roomRadius * Math.cos(angle) - SECTOR_ANGLE_OFFSET;
-        final double y = centerY + roomRadius * Math.sin(angle) - SECTOR_ANGLE_OFFSET;
-
-        dPane.getChildren().add(createRoomLabel(x, y, roomIndex));
-
-        dPane.getChildren().add(addImage(controller, x, y, isToDisplay, roomIndex));
-
-        final Arc sector = createSector(centerX, centerY, outer.getRadius(), roomIndex);
-
-        // add the sector to the map for highlighting
-        sectorMap.put(roomIndex, sector);
-        dPane.getChildren().add(sector);
-
-        dPane.getChildren().add(createDivisionLine(centerX, centerY, angle));
-    }
-
-    private ImageView addImage(final GameController controller, final double x, final double y, final boolean isToDisplay,
-            final int roomIndex) {
+    private Image roomSprite(final GameController controller, final boolean isToDisplay, final int roomIndex) {
         final String path;
         if (isToDisplay) {
             path = controller.getRoomImagePath(roomIndex);
         } else {
             path = "images/smoke.gif";
         }
-        final InputStream stream = getClass().getClassLoader()
-                .getResourceAsStream(path != null
-                        ? path
-                        : "images/smoke.gif");
-        final ImageView spriteImg = new ImageView(new Image(stream));
-
-        spriteImg.setTranslateX(x);
-        spriteImg.setTranslateY(y);
-        spriteImg.setFitHeight(100);
-        spriteImg.setFitWidth(100);
-
-        return spriteImg;
+        // Room sprites are decoded once at their largest size, then shared by every floor
+        return AssetManager.getResourceImage(path != null ? path : "images/smoke.gif", ROOM_SPRITE_SIZE, ROOM_SPRITE_SIZE);
     }
 
     private void highlightSector(final int roomIndex) {
-        // Reset all previous highlights
-        sectorMap.values().forEach(sector -> sector.setFill(null));
-
-        // Highlight the selected sector
-        final Arc selectedSector = sectorMap.get(roomIndex);
-        if (selectedSector != null) {
+        // Move the highlight to the selected sector, reusing its animation
+        highlight.stop();
+        highlightedSector.setOpacity(1.0);
+        if (roomIndex >= 0 && roomIndex < ring.getRoomCount()) {
             LOGGER.info("Sector found, applying highlight.");
-            selectedSector.setFill(HIGHLIGHT_COLOR);
-            final FadeTransition fade = new FadeTransition(Duration.seconds(FADE_DURATION), selectedSector);
-            fade.setFromValue(1.0);
-            fade.setToValue(FADE_MIN_OPACITY);
-            fade.setCycleCount(Animation.INDEFINITE);
-            fade.setAutoReverse(true);
-            fade.play();
+            highlightedSector.setStartAngle(ring.sectorStartAngle(roomIndex));
+            highlightedSector.setVisible(true);
+            highlight.play();
         } else {
             LOGGER.warn("No sector found for room: " + roomIndex);
+            highlightedSector.setVisible(false);
         }
     }
-
-    private Text createRoomLabel(final double x, final double y, final int roomIndex) {
-        final Text label = new Text(x + 10, y + ROOM_LABEL_OFFSET, "R" + (roomIndex + 1));
-        label.setFill(Color.WHITE);
-        return label;
-    }
-
-    private Arc createSector(final double centerX, final double centerY,
-            final double outerRadius, final int roomIndex) {
-        double startAngle = (nRooms - roomIndex - 1) * (360.0 / nRooms);
-        startAngle = startAngle + ANGLE_OFFSET;
-        final double sectorLength = 360.0 / nRooms;
-
-        final Arc sector = new Arc(centerX, centerY, outerRadius, outerRadius, startAngle, sectorLength);
-        sector.getStyleClass().add("sector");
-        sector.setType(ArcType.ROUND);
-        return sector;
-    }
-
-    private Line createDivisionLine(final double centerX, final double centerY, final double angle) {
-        final double rotatedAngle = angle - 90;
-        final double startX = centerX + inner.getRadius() * Math.cos(rotatedAngle + Math.PI / 2); // Cerchio interno
-        final double startY = centerY + inner.getRadius() * Math.sin(rotatedAngle + Math.PI / 2);
-        final double endX = centerX + outer.getRadius() * Math.cos(rotatedAngle + Math.PI / 2); // Cerchio esterno
-        final double endY = centerY + outer.getRadius() * Math.sin(rotatedAngle + Math.PI / 2);
-
-        final Line line = new Line(startX, startY, endX, endY);
-        line.setStroke(Color.WHITE);
-        return line;
-    }
 }
@@ -43,7 +43,6 @@ public final class ModdingMenuView implements SceneActivationListener {
     private static final double SCREEN_DIVISION_FACTOR = 2.0;
     private static final double SPACING = 10;
     private static final double BUTTON_WIDTH = 200;
-    private static final String MODDING_MENU_CSS = "/css/modding_menu.css";
     private static final String POPUP_BUTTON_STYLE = "popup-button";
 
     private boolean hasShownPopup;
@@ -119,7 +118,7 @@ public final class ModdingMenuView implements SceneActivationListener {
 
         root.getChildren().addAll(background, content);
 
-        root.getStylesheets().add(getClass().getResource(MODDING_MENU_CSS).toExternalForm());
+        StylesheetRegistry.attach(root, StylesheetRegistry.MODDING_MENU);
         root.setUserData(this);
 
         return root;
@@ -316,7 +315,7 @@ public final class ModdingMenuView implements SceneActivationListener {
         alert.setTitle(title);
         alert.setHeaderText(null);
         alert.setContentText(content);
-        alert.getDialogPane().getStylesheets().add(getClass().getResource(MODDING_MENU_CSS).toExternalForm());
+        StylesheetRegistry.attach(alert.getDialogPane(), StylesheetRegistry.MODDING_MENU);
         alert.getDialogPane().getStyleClass().add("alert-dialog");
         alert.showAndWait();
     }
@@ -365,7 +364,7 @@ public final class ModdingMenuView implements SceneActivationListener {
         closeButton.setOnAction(event -> popupStage.close());
         popupRoot.getChildren().addAll(message, closeButton);
         final Scene popupScene = new Scene(popupRoot, POPUP_WIDTH, POPUP_HEIGHT);
-        popupScene.getStylesheets().add(getClass().getResource(MODDING_MENU_CSS).toExternalForm());
+        StylesheetRegistry.attach(popupScene, StylesheetRegistry.MODDING_MENU);
         popupStage.setScene(popupScene);
         popupStage.centerOnScreen();
         popupStage.show();
@@ -392,7 +391,7 @@ public final class ModdingMenuView implements SceneActivationListener {
         popupRoot.getChildren().addAll(messageLabel, buttonContainer);
 
         final Scene popupScene = new Scene(popupRoot, POPUP_WIDTH, POPUP_HEIGHT);
-        popupScene.getStylesheets().add(getClass().getResource(MODDING_MENU_CSS).toExternalForm());
+        StylesheetRegistry.attach(popupScene, StylesheetRegistry.MODDING_MENU);
         popupStage.setScene(popupScene);
         popupStage.centerOnScreen();
 
@@ -0,0 +1,27 @@
+package it.unibo.templetower.view;
+
+import it.unibo.templetower.controller.GameController;
+import javafx.scene.layout.Pane;
+
+/**
+ * View of the game whose scene graph is built once and then reused: the scene manager resets the view
+ * every time it is shown, so that it reflects the current state of the game without building its
+ * nodes, stylesheets and media again.
+ */
+public interface PooledView {
+    /**
+     * Builds the scene graph of the view. It is called once, before the first reset.
+     *
+     * @param manager the scene manager handling scene transitions
+     * @param controller the game controller
+     * @return the root pane of the view
+     */
+    Pane createScene(SceneManager manager, GameController controller);
+
+    /**
+     * Rebinds the view to the current state of the game, just before it is shown.
+     *
+     * @param controller the game controller
+     */
+    void reset(GameController controller);
+}
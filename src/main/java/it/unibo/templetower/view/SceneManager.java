@@ -1,8 +1,6 @@
 package it.unibo.templetower.view;
 
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -13,9 +11,13 @@ import org.slf4j.LoggerFactory;
 import it.unibo.templetower.controller.GameController;
 import it.unibo.templetower.controller.GameControllerImpl;
 import it.unibo.templetower.controller.GameDataManager;
+import it.unibo.templetower.controller.GameEvent.PlayerDied;
+import it.unibo.templetower.controller.GameEvent.RoomEntered;
+import it.unibo.templetower.utils.AssetManager;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
-import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
@@ -32,7 +34,6 @@ public final class SceneManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(SceneManager.class);
     private static final double INITIAL_HEIGHT = Screen.getPrimary().getBounds().getHeight() / 2;
     private static final double INITIAL_WIDTH = Screen.getPrimary().getBounds().getWidth() / 2;
-    private static final String CSS_PATH = "/css/main.css";
 
     private final GameController controller;
     private final Map<String, Pane> panes = new HashMap<>();
@@ -47,37 +48,76 @@ public final class SceneManager {
     public SceneManager(final Stage stage) {
         this.stage = Objects.requireNonNull(stage, "Stage cannot be null");
         this.controller = new GameControllerImpl();
+        this.controller.setSpritePrefetcher(AssetManager::getFileImage);
+        this.controller.getEventBus().setDispatcher(Platform::runLater);
+        this.controller.getEventBus().subscribe(RoomEntered.class, room -> switchTo(room.name()));
+        this.controller.getEventBus().subscribe(PlayerDied.class, this::endGame);
         this.scene = new Scene(new StackPane(), INITIAL_WIDTH, INITIAL_HEIGHT);
         stage.setScene(scene);
         stage.setTitle("Temple Tower");
         stage.getIcons().add(new Image(getClass().getResourceAsStream("/images/icon.png")));
         initializeMenu();
+        startTurnClock();
+    }
+
+    /*
+     * Drives the turn scheduler of the controller from the pulses of JavaFX, so that combat turns
+     * are played on a fixed tick whatever the frame rate and the length of the animations.
+     */
+    private void startTurnClock() {
+        new AnimationTimer() {
+            @Override
+            public void handle(final long now) {
+                controller.updateTurns(now);
+            }
+        }.start();
+    }
+
+    /*
+     * The player can die in a fight or in a trap, so the game is ended here rather than by the view of the room.
+     */
+    private void endGame(final PlayerDied death) {
+        LOGGER.info("The player died on floor {}", death.level());
+        controller.resetGame();
+        GameOverDialog.show(() -> switchTo("home"));
     }
 
     private void initializeMenu() {
         try {
-            panes.put("difficulty_menu", new DifficultyMenu().createScene(this, controller));
-            panes.put("enter_menu", new EnterMenu().createScene(this));
-            panes.put("settings_menu", new SettingsMenuView().createScene(this));
-            panes.put("home", new StartupView().createScene(this));
-            panes.put("modding_menu", new ModdingMenuView().createScene(this));
+            addPane("difficulty_menu", new DifficultyMenu().createScene(this, controller));
+            addPane("enter_menu", new EnterMenu().createScene(this));
+            addPane("settings_menu", new SettingsMenuView().createScene(this));
+            addPane("home", new StartupView().createScene(this));
+            addPane("modding_menu", new ModdingMenuView().createScene(this));
         } catch (FileNotFoundException e) {
             LOGGER.error("Failed to initialize scenes: {}", e.getMessage(), e);
             throw new IllegalStateException("Failed to initialize scenes", e);
         }
     }
 
+    /*
+     * The sheet shared by every pane is attached once, after the sheets of the view, which it overrides.
+     */
+    private void addPane(final String name, final Pane pane) {
+        StylesheetRegistry.attach(pane, StylesheetRegistry.MAIN);
+        panes.put(name, pane);
+    }
+
     /**
-     * Initializes all game panes.
+     * Initializes all game panes the first time a game starts. The game views are pooled:
+     * they are built once and reset every time they are shown.
      */
-    private  void initializeRooms() {
-        panes.put("main_floor_view", new MainFloorView().createScene(this, controller));
-        panes.put("combat_view", new CombatView().createScene(this, controller));
-        panes.put("treasure_view", new TreasureView().createScene(this, controller));
-        panes.put("stairs_view", new StairsView().createScene(this, controller));
-        panes.put("change_weapon_view", new ChangeWeaponView().createScene(this, controller));
-        panes.put("select_weapon_view", new SelectWeaponView().createScene(this, controller));
-        panes.put("trap_view", new TrapView().createScene(this, controller));
+    private void initializeRooms() {
+        if (panes.containsKey("main_floor_view")) {
+            return;
+        }
+        addPane("main_floor_view", new MainFloorView().createScene(this, controller));
+        addPane("combat_view", new CombatView().createScene(this, controller));
+        addPane("treasure_view", new TreasureView().createScene(this, controller));
+        addPane("stairs_view", new StairsView().createScene(this, controller));
+        addPane("change_weapon_view", new ChangeWeaponView().createScene(this, controller));
+        addPane("select_weapon_view", new SelectWeaponView().createScene(this, controller));
+        addPane("trap_view", new TrapView().createScene(this, controller));
     }
 
     /**
@@ -98,24 +138,15 @@ public final class SceneManager {
             initializeRooms();
         }
 
-        Pane pane = panes.get(sceneName);
-
-        //recreating Panes for resetting the view
-        switch (sceneName) {
-            case "combat_view" -> pane = new CombatView().createScene(this, controller);
-            case "select_weapon_view" -> pane = new SelectWeaponView().createScene(this, controller);
-            case "stairs_view" -> pane = new StairsView().createScene(this, controller);
-            case "treasure_view" -> pane = new TreasureView().createScene(this, controller);
-            case "trap_view" -> pane = new TrapView().createScene(this, controller);
-            default -> {
-                LOGGER.info("Cache");
-            }
-        }
+        final Pane pane = panes.get(sceneName);
         if (pane == null) {
             LOGGER.info("Scene " + sceneName + " not found");
             return;
         }
-        applyStylesheet(pane);
+        // Pooled views are rebound to the state of the game instead of being built again
+        if (pane.getUserData() instanceof PooledView pooledView) {
+            pooledView.reset(controller);
+        }
         updateStage(pane);
     }
 
@@ -133,20 +164,6 @@ public final class SceneManager {
         alert.showAndWait();
     }
 
-    /**
-     * Applies the CSS stylesheet to the scene.
-     *
-     * @param pane the scene to which the stylesheet should be applied
-     */
-    private void applyStylesheet(final Pane pane) {
-        final URL cssResource = getClass().getResource(CSS_PATH);
-        if (cssResource != null) {
-            pane.getStylesheets().add(cssResource.toExternalForm());
-        } else {
-            LOGGER.warn("CSS file not found at path: " + CSS_PATH);
-        }
-    }
-
     /**
      * Applies the screen size of the previous scene and sets
      * the new scene on stage.
@@ -190,38 +207,19 @@ public final class SceneManager {
         return stageProxy;
     }
 
-
     /**
-     * @param path of the image
-     * @return background image from path
+     * Adds an empty background to a view, filling the view and staying behind its other nodes.
+     * Pooled views set its image when they are reset.
+     *
+     * @param root the root pane of the view
+     * @return the view of the background image
      */
-    public ImageView getImage(final String path) {
-        final Image backgroundImage;
-        final File file = new File(path);
-        backgroundImage = new Image(file.toURI().toString());
-        final ImageView backgroundView = new ImageView(backgroundImage);
+    public ImageView addBackground(final StackPane root) {
+        final ImageView backgroundView = new ImageView();
         backgroundView.setPreserveRatio(false);
+        backgroundView.fitWidthProperty().bind(root.widthProperty());
+        backgroundView.fitHeightProperty().bind(root.heightProperty());
+        root.getChildren().add(0, backgroundView);
         return backgroundView;
     }
-
-    /**
-     * Loads an image and binds it to the given StackPane.
-     * 
-     * @param manager    the SceneManager responsible for managing images.
-     * @param root       the StackPane where the background image will be set.
-     * @param imagePath  the path of the image.
-     */
-    public void setBackground(final SceneManager manager, final StackPane root, final String imagePath) {
-        try {
-            final ImageView backgroundView = manager.getImage(imagePath);
-            backgroundView.setPreserveRatio(false);
-            backgroundView.fitWidthProperty().bind(root.widthProperty());
-            backgroundView.fitHeightProperty().bind(root.heightProperty());
-            root.getChildren().add(backgroundView);
-        } catch (IllegalArgumentException e) {
-            final Label errorLabel = new Label("Background image not found.");
-            errorLabel.getStyleClass().add("label");
-            root.getChildren().add(errorLabel);
-        }
-    }
 }
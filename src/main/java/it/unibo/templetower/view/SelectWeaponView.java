@@ -1,20 +1,30 @@
 package it.unibo.templetower.view;
 
+import java.util.List;
+
 import it.unibo.templetower.controller.GameController;
+import it.unibo.templetower.model.Weapon;
+import it.unibo.templetower.utils.AssetManager;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 
 /**
  * Select weapon view class.
  */
-public class SelectWeaponView {
+public class SelectWeaponView implements PooledView {
     private static final int VBOX_SPACING = 20;
     private static final int BT_WIDTH = 600;
     private static final int BT_HEIGHT = 300;
 
+    private ImageView backgroundView;
+    private VBox vbox;
+    private Label titleLabel;
+    private Button backButton;
+
     /**
      * Creates and returns the change weapon scene with all necessary UI elements.
      * 
@@ -22,58 +32,49 @@ public class SelectWeaponView {
      * @param controller the game controller
      * @return the created change weapon scene
      */
+    @Override
     public StackPane createScene(final SceneManager manager, final GameController controller) {
         final StackPane root = new StackPane();
-        final VBox vbox = new VBox(VBOX_SPACING);
+        root.setUserData(this);
+        vbox = new VBox(VBOX_SPACING);
         vbox.setAlignment(Pos.CENTER);
-        final Button weapon1;
-        final Button weapon2;
-        final Button weapon3;
 
-        manager.setBackground(manager, root, controller.getBackgroundImage());
+        backgroundView = manager.addBackground(root);
 
-        final Label titleLabel = new Label("Select Weapon to USE");
+        titleLabel = new Label("Select Weapon to USE");
         titleLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: white;");
 
-        vbox.getChildren().add(titleLabel);
-
-        if (!controller.getPlayerWeapons().isEmpty()) {
-            weapon1 = new Button(controller.getPlayerWeapons().get(0).name() + " - Damage: "
-                    + controller.getPlayerWeapons().get(0).attack().getY());
-            weapon1.setOnAction(e -> controller.changeWeaponIndex(0));
-            styleWeaponButton(weapon1);
-            vbox.getChildren().add(weapon1);
-        }
-
-        if (controller.getPlayerWeapons().size() >= 2) {
-            weapon2 = new Button(controller.getPlayerWeapons().get(1).name() + " - Damage: "
-                    + controller.getPlayerWeapons().get(1).attack().getY());
-            weapon2.setOnAction(e -> controller.changeWeaponIndex(1));
-            styleWeaponButton(weapon2);
-            vbox.getChildren().add(weapon2);
-        }
-
-        if (controller.getPlayerWeapons().size() == 3) {
-            weapon3 = new Button(controller.getPlayerWeapons().get(2).name() + " - Damage: "
-                    + controller.getPlayerWeapons().get(2).attack().getY());
-            weapon3.setOnAction(e -> controller.changeWeaponIndex(2));
-            styleWeaponButton(weapon3);
-            vbox.getChildren().add(weapon3);
-        }
-
-        final Button backButton = new Button("Back");
+        backButton = new Button("Back");
         backButton.setStyle("-fx-font-size: 20px; -fx-padding: 10px 20px;");
 
         backButton.setOnAction(e -> manager.switchTo("combat_view")); 
         styleWeaponButton(backButton);
 
-        vbox.getChildren().add(backButton);
-
         root.getChildren().add(vbox);
 
         return root;
     }
 
+    /**
+     * Shows a button for every weapon of the player.
+     *
+     * @param controller the game controller
+     */
+    @Override
+    public void reset(final GameController controller) {
+        backgroundView.setImage(AssetManager.getFileImage(controller.getBackgroundImage()));
+        vbox.getChildren().setAll(titleLabel);
+        final List<Weapon> weapons = controller.getPlayerWeapons();
+        for (int i = 0; i < weapons.size(); i++) {
+            final int index = i;
+            final Button weapon = new Button(weapons.get(i).name() + " - Damage: " + weapons.get(i).attack().getY());
+            weapon.setOnAction(e -> controller.changeWeaponIndex(index));
+            styleWeaponButton(weapon);
+            vbox.getChildren().add(weapon);
+        }
+        vbox.getChildren().add(backButton);
+    }
+
     /**
      * Applica lo stile ai bottoni delle armi.
      * 
@@ -1,13 +1,11 @@
 package it.unibo.templetower.view;
 
-import java.io.File;
-
 import it.unibo.templetower.controller.GameController;
+import it.unibo.templetower.utils.AssetManager;
 import javafx.beans.binding.Bindings;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -18,49 +16,32 @@ import javafx.scene.media.MediaView;
 /**
  * The stairs view for pass to next floor.
  */
-public class StairsView {
+public class StairsView implements PooledView {
     private static final int SPACING = 20;
     private static final int OTHER5 = 50;
     private static final int OTHER4 = 40;
 
+    private StackPane root;
+    private VBox layout;
+    private ImageView backgroundView;
+    private MediaView mediaView;
+
     /**
      * Creates the scene for the stairs view.
+     * The video of the stairs is loaded once and played by a new player every time the stairs are taken.
      *
      * @param manager    the scene manager
      * @param controller the game controller
      * @return the created scene
      */
+    @Override
     public StackPane createScene(final SceneManager manager, final GameController controller) {
-        final StackPane root = new StackPane();
-        final VBox layout = new VBox(SPACING);
+        root = new StackPane();
+        root.setUserData(this);
+        layout = new VBox(SPACING);
         layout.setAlignment(Pos.CENTER);
 
-        final String bgImage;
-        if (!controller.isBossTime()) {
-            bgImage = controller.getBackgroundImage();
-        } else {
-            bgImage = "/images/final_arena.png";
-        }
-
-        final Image backgroundImage;
-        try {
-            if (!controller.isBossTime()) {
-                final File file = new File(bgImage);
-                backgroundImage = new Image(file.toURI().toString());
-            } else {
-                backgroundImage = new Image(StairsView.class.getResource(bgImage).toExternalForm());
-            }
-
-            final ImageView backgroundView = new ImageView(backgroundImage);
-            backgroundView.setPreserveRatio(false);
-            backgroundView.fitWidthProperty().bind(root.widthProperty());
-            backgroundView.fitHeightProperty().bind(root.heightProperty());
-            root.getChildren().add(backgroundView);
-        } catch (IllegalArgumentException e) {
-            final Label errorLabel = new Label("Background image not found.");
-            errorLabel.getStyleClass().add("label");
-            root.getChildren().add(errorLabel);
-        }
+        backgroundView = manager.addBackground(root);
 
         final Label message = new Label("Do you want to go to the next floor?");
         message.styleProperty().bind(Bindings.concat(
@@ -83,19 +64,18 @@ public class StairsView {
         layout.getChildren().addAll(message, btYes, btNo);
         root.getChildren().add(layout);
 
+        final Media media = new Media(StairsView.class.getResource("/video/stairs.mp4").toExternalForm());
+        mediaView = new MediaView();
+        mediaView.fitWidthProperty().bind(root.widthProperty());
+        mediaView.fitHeightProperty().bind(root.heightProperty());
+        mediaView.setPreserveRatio(false);
+
         btYes.setOnAction(event -> {
             controller.goToNextFloor();
-            root.getChildren().clear();
 
-            final Media media = new Media(StairsView.class.getResource("/video/stairs.mp4").toExternalForm());
             final MediaPlayer newMediaPlayer = new MediaPlayer(media);
-            final MediaView newMediaView = new MediaView(newMediaPlayer);
-
-            newMediaView.fitWidthProperty().bind(root.widthProperty());
-            newMediaView.fitHeightProperty().bind(root.heightProperty());
-            newMediaView.setPreserveRatio(false);
-
-            root.getChildren().add(newMediaView);
+            mediaView.setMediaPlayer(newMediaPlayer);
+            root.getChildren().setAll(mediaView);
 
             newMediaPlayer.setOnReady(() -> {
                 newMediaPlayer.play();
@@ -107,6 +87,7 @@ public class StairsView {
                 } else {
                     manager.switchTo("combat_view");
                 }
+                mediaView.setMediaPlayer(null);
                 newMediaPlayer.dispose();
             });
 
@@ -122,4 +103,19 @@ public class StairsView {
 
         return root;
     }
+
+    /**
+     * Shows the question again, over the background of the current floor.
+     *
+     * @param controller the game controller
+     */
+    @Override
+    public void reset(final GameController controller) {
+        if (controller.isBossTime()) {
+            backgroundView.setImage(AssetManager.getResourceImage("/images/final_arena.png"));
+        } else {
+            backgroundView.setImage(AssetManager.getFileImage(controller.getBackgroundImage()));
+        }
+        root.getChildren().setAll(backgroundView, layout);
+    }
 }
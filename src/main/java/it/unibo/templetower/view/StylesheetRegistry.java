@@ -0,0 +1,72 @@
+package it.unibo.templetower.view;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+/**
+ * Registry of the stylesheets of the game. Every sheet is resolved once, and always attached with the same URL,
+ * so that JavaFX parses it once and shares it between the scenes using it. Attaching a sheet that a node
+ * already has does nothing, so that the list of sheets of a pooled view does not grow each time it is shown.
+ */
+final class StylesheetRegistry {
+    /** Sheet shared by every pane of the game. */
+    static final String MAIN = "/css/main.css";
+    /** Sheet of the combat view. */
+    static final String COMBAT = "/css/Combat.css";
+    /** Sheet of the treasure view. */
+    static final String TREASURE = "/css/Treasure.css";
+    /** Sheet of the modding menu and its dialogs. */
+    static final String MODDING_MENU = "/css/modding_menu.css";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StylesheetRegistry.class);
+    private static final Map<String, String> URLS = new ConcurrentHashMap<>();
+
+    private StylesheetRegistry() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Attaches sheets to a node, after the ones it already has.
+     *
+     * @param node the node
+     * @param sheets the classpath resources of the sheets
+     */
+    static void attach(final Parent node, final String... sheets) {
+        attach(node.getStylesheets(), sheets);
+    }
+
+    /**
+     * Attaches sheets to a scene, after the ones it already has.
+     *
+     * @param scene the scene
+     * @param sheets the classpath resources of the sheets
+     */
+    static void attach(final Scene scene, final String... sheets) {
+        attach(scene.getStylesheets(), sheets);
+    }
+
+    private static void attach(final List<String> stylesheets, final String... sheets) {
+        for (final String sheet : sheets) {
+            final String url = URLS.computeIfAbsent(sheet, StylesheetRegistry::resolve);
+            if (url.isEmpty()) {
+                LOGGER.warn("CSS file not found at path: {}", sheet);
+            } else if (!stylesheets.contains(url)) {
+                stylesheets.add(url);
+            }
+        }
+    }
+
+    // A missing sheet is remembered as an empty URL, so that it is looked up once
+    private static String resolve(final String sheet) {
+        final URL resource = StylesheetRegistry.class.getResource(sheet);
+        return resource == null ? "" : resource.toExternalForm();
+    }
+}
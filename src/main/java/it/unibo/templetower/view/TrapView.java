@@ -1,23 +1,31 @@
 package it.unibo.templetower.view;
 
 import it.unibo.templetower.controller.GameController;
+import it.unibo.templetower.controller.GameEvent.DamageDealt;
+import it.unibo.templetower.utils.AssetManager;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 
 /**
  * the trap view class.
  */
-public class TrapView {
+public class TrapView implements PooledView {
     private static final int SPACING = 20;
     private static final int BT_WIDTH = 400;
     private static final int BT_HEIGHT = 300;
 
+    private ImageView backgroundView;
+    private Button takeButton;
+    private Button exitButton;
+    private Label lifeLabel;
+
     /**
      * Creates the scene for the Trap view.
      *
@@ -25,15 +33,17 @@ public class TrapView {
      * @param controller the game controller
      * @return the created scene
      */
+    @Override
     public StackPane createScene(final SceneManager manager, final GameController controller) {
         final StackPane root = new StackPane();
+        root.setUserData(this);
 
-        manager.setBackground(manager, root, controller.getBackgroundImage());
+        backgroundView = manager.addBackground(root);
 
         final Label trapLabel = new Label("YOU TAKE A TRAP");
         trapLabel.setStyle("-fx-font-size: 36px; -fx-font-weight: bold;");
 
-        final Button takeButton = new Button("Take");
+        takeButton = new Button("Take");
         takeButton.setStyle("-fx-font-size: 20px;");
         takeButton.setStyle(
                 "-fx-font-size: 24px; "
@@ -45,9 +55,8 @@ public class TrapView {
         takeButton.setMinWidth(BT_HEIGHT);
         takeButton.setMaxWidth(BT_WIDTH);
 
-        final Button exitButton = new Button("Exit");
+        exitButton = new Button("Exit");
         exitButton.setStyle("-fx-font-size: 20px;");
-        exitButton.setDisable(true);
         exitButton.setOnAction(e -> manager.switchTo("main_floor_view"));
         exitButton.setStyle(
                 "-fx-font-size: 24px; "
@@ -59,19 +68,21 @@ public class TrapView {
         exitButton.setMinWidth(BT_HEIGHT);
         exitButton.setMaxWidth(BT_WIDTH);
 
+        // The life shown in the popup is updated when the controller reports the damage of the trap
+        lifeLabel = new Label();
+        lifeLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold;");
+        controller.getEventBus().subscribe(DamageDealt.class, damage -> showLife(damage.playerLife()));
+
         takeButton.setOnAction(e -> {
             final Dialog<String> dialog = new Dialog<>();
             dialog.setTitle("Life Points");
 
             controller.attackPlayer();
 
-            final Label popupLabel = new Label("ACTUAL LIFE POINTS: " + controller.getPlayerLife());
-            popupLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold;");
-
             final ButtonType closeButtonType = ButtonType.CLOSE;
             dialog.getDialogPane().getButtonTypes().add(closeButtonType);
 
-            final VBox popupLayout = new VBox(SPACING, popupLabel);
+            final VBox popupLayout = new VBox(SPACING, lifeLabel);
             popupLayout.setAlignment(Pos.CENTER);
             popupLayout.setPadding(new Insets(SPACING));
 
@@ -92,4 +103,21 @@ public class TrapView {
         return root;
     }
 
+    /**
+     * Shows the trap of the current room, not taken yet.
+     *
+     * @param controller the game controller
+     */
+    @Override
+    public void reset(final GameController controller) {
+        backgroundView.setImage(AssetManager.getFileImage(controller.getBackgroundImage()));
+        takeButton.setDisable(false);
+        exitButton.setDisable(true);
+        showLife(controller.getPlayerLife());
+    }
+
+    private void showLife(final double life) {
+        lifeLabel.setText("ACTUAL LIFE POINTS: " + life);
+    }
+
 }
@@ -1,11 +1,10 @@
 package it.unibo.templetower.view;
 
-import java.io.File;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import it.unibo.templetower.controller.GameController;
+import it.unibo.templetower.utils.AssetManager;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.geometry.Insets;
@@ -15,7 +14,6 @@ import javafx.scene.control.ButtonType;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
@@ -30,7 +28,7 @@ import javafx.util.Duration;
  * This class manages the treasure discovery sequence including
  * video playback and weapon selection dialog.
  */
-public final class TreasureView {
+public final class TreasureView implements PooledView {
     private static final Logger LOGGER = LoggerFactory.getLogger(TreasureView.class);
     private static final int DAMAGE_BAR_WIDTH = 200;
     private static final int BUTTON_SPACING = 20;
@@ -47,20 +45,28 @@ public final class TreasureView {
     private static final int WINDOW_HEIGHT = 600;
     private static final String MAIN_VIEW = "main_floor_view";
 
+    private StackPane root;
+    private VBox mainContainer;
+    private Label message;
+    private HBox buttonContainer;
+
     /**
      * Creates and returns the treasure room scene.
+     * The video of the chest is loaded once and played by a new player every time a chest is opened.
      * 
      * @param manager    the scene manager to handle scene transitions
      * @param controller the game controller to handle game logic
      * @return the created Scene object
      */
+    @Override
     public StackPane createScene(final SceneManager manager, final GameController controller) {
-        final StackPane root = new StackPane();
+        root = new StackPane();
+        root.setUserData(this);
 
-        final VBox mainContainer = new VBox(BUTTON_SPACING);
+        mainContainer = new VBox(BUTTON_SPACING);
         mainContainer.setAlignment(Pos.CENTER);
 
-        final Label message = new Label("Do you want to open the chest?");
+        message = new Label("Do you want to open the chest?");
         message.styleProperty().bind(Bindings.concat(
                 "-fx-font-size: ", root.widthProperty().divide(BUTTON_SPACING).asString(),
                 "px; -fx-text-fill: black; -fx-font-weight: bold;"));
@@ -84,7 +90,7 @@ public final class TreasureView {
                 "-fx-font-size: ", root.widthProperty().divide(VBOX2).asString(),
                 "px; -fx-padding: ", root.widthProperty().divide(VBOX).asString(), "px;"));
 
-        final HBox buttonContainer = new HBox(SPACING4);
+        buttonContainer = new HBox(SPACING4);
         buttonContainer.setAlignment(Pos.CENTER);
         buttonContainer.getChildren().addAll(btOpen, btExit);
         btOpen.toFront();
@@ -93,20 +99,19 @@ public final class TreasureView {
         mainContainer.getChildren().addAll(message, buttonContainer);
         root.getChildren().add(mainContainer);
 
-        btOpen.setOnAction(event -> {
-            root.getChildren().remove(buttonContainer);
+        final String videoPath = getClass().getResource("/video/treasure.mp4").toExternalForm();
+        final Media media = new Media(videoPath);
+        final MediaView mediaView = new MediaView();
+        mediaView.fitWidthProperty().bind(root.widthProperty());
+        mediaView.fitHeightProperty().bind(root.heightProperty());
+        mediaView.setPreserveRatio(false);
+        StackPane.setAlignment(mediaView, Pos.CENTER);
 
-            final String videoPath = getClass().getResource("/video/treasure.mp4").toExternalForm();
+        btOpen.setOnAction(event -> {
+            mainContainer.getChildren().remove(buttonContainer);
 
-            final Media media = new Media(videoPath);
             final MediaPlayer mediaPlayer = new MediaPlayer(media);
-            final MediaView mediaView = new MediaView(mediaPlayer);
-
-            mediaView.fitWidthProperty().bind(root.widthProperty());
-            mediaView.fitHeightProperty().bind(root.heightProperty());
-            mediaView.setPreserveRatio(false);
-            StackPane.setAlignment(mediaView, Pos.CENTER);
-
+            mediaView.setMediaPlayer(mediaPlayer);
             root.getChildren().add(mediaView);
 
             mediaPlayer.setRate(RATE);
@@ -123,6 +128,7 @@ public final class TreasureView {
             });
 
             mediaPlayer.setOnEndOfMedia(() -> Platform.runLater(() -> {
+                mediaView.setMediaPlayer(null);
                 mediaPlayer.dispose();
 
                 if (controller.getElementTreasure() == 1) {
@@ -141,11 +147,22 @@ public final class TreasureView {
         LOGGER.info("Player chose to exit the room");
         btExit.setOnAction(event -> manager.switchTo(MAIN_VIEW));
 
-        root.getStylesheets().add(getClass().getResource("/css/Treasure.css").toExternalForm());
+        StylesheetRegistry.attach(root, StylesheetRegistry.TREASURE);
 
         return root;
     }
 
+    /**
+     * Shows the closed chest again.
+     *
+     * @param controller the game controller
+     */
+    @Override
+    public void reset(final GameController controller) {
+        mainContainer.getChildren().setAll(message, buttonContainer);
+        root.getChildren().setAll(mainContainer);
+    }
+
     /**
      * Shows a popup dialog for weapon selection.
      * 
@@ -163,8 +180,7 @@ public final class TreasureView {
         dialog.getDialogPane().setMinSize(DIALOG_WIDTH, DIALOG_HEIGHT);
 
         final String imagePath = controller.getWeaponPath();
-        final File file = new File(imagePath);
-        final ImageView imageView = new ImageView(new Image(file.toURI().toString()));
+        final ImageView imageView = new ImageView(AssetManager.getFileImage(imagePath));
         final int newImageSize = 200;
         imageView.setFitWidth(newImageSize);
         imageView.setFitHeight(newImageSize);
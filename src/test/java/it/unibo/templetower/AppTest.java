@@ -3,6 +3,8 @@
  */
 package it.unibo.templetower;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 import java.util.logging.ConsoleHandler;
@@ -13,13 +15,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.Test;
 import it.unibo.templetower.controller.GameDataManager;
 import it.unibo.templetower.model.EnemyRoom;
+import it.unibo.templetower.model.Floor;
 import it.unibo.templetower.model.SpawnManager;
 import it.unibo.templetower.model.Trap;
 import it.unibo.templetower.model.Tower;
 import it.unibo.templetower.util.FloorPrinterUtil;
+import it.unibo.templetower.utils.RandomStreams;
 
 class AppTest {
     private static final Logger LOGGER = Logger.getLogger(AppTest.class.getName());
+    private static final long RUN_SEED = 42L;
+    private static final int GENERATED_LEVELS = 10;
 
     static {
         LOGGER.setUseParentHandlers(false);
@@ -94,4 +100,32 @@ class AppTest {
         });
         LOGGER.info("=== Fine Dettagli ===\n");
     }
+
+    @Test
+    void testSameSeedGeneratesSameFloors() {
+        final GameDataManager gameDataManager = GameDataManager.getInstance();
+        gameDataManager.loadGameDataFromTower("towerNew/tower.json");
+        final Tower towerData = gameDataManager.getTower();
+        final SpawnManager inOrder = new SpawnManager(towerData, null, new RandomStreams(RUN_SEED));
+        final SpawnManager reversed = new SpawnManager(towerData, null, new RandomStreams(RUN_SEED));
+        final List<String> expected = new ArrayList<>();
+        for (int level = 1; level <= GENERATED_LEVELS; level++) {
+            expected.add(describe(inOrder.spawnFloor(level)));
+        }
+        // Each level has its own stream, so the order of generation does not matter
+        for (int level = GENERATED_LEVELS; level >= 1; level--) {
+            assertEquals(expected.get(level - 1), describe(reversed.spawnFloor(level)), "Level " + level + " differs");
+        }
+    }
+
+    private static String describe(final Floor floor) {
+        final StringBuilder description = new StringBuilder(floor.floorName());
+        floor.rooms().forEach(room -> {
+            description.append(' ').append(room.getName());
+            if (room.getBehavior() instanceof EnemyRoom enemyRoom) {
+                description.append('=').append(enemyRoom.getName());
+            }
+        });
+        return description.toString();
+    }
 }
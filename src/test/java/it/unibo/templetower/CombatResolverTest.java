@@ -0,0 +1,70 @@
+package it.unibo.templetower;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.templetower.model.CombatBatch;
+import it.unibo.templetower.model.CombatOutcome;
+import it.unibo.templetower.model.CombatResolver;
+import it.unibo.templetower.model.Enemy;
+import it.unibo.templetower.model.PlayerImpl;
+import it.unibo.templetower.utils.Pair;
+
+class CombatResolverTest {
+    private static final int MAX_TURNS = 1_000;
+    private static final int FIGHTS = 10_000;
+    private static final double LIFE = 100;
+    private static final double PRECISION = 1e-9;
+
+    private final CombatResolver resolver = new CombatResolver(MAX_TURNS);
+
+    @Test
+    void testClosedFormMatchesStepByStep() {
+        final SplittableRandom random = new SplittableRandom(1);
+        final CombatBatch closedForm = new CombatBatch();
+        final CombatBatch stepByStep = new CombatBatch();
+        for (int i = 0; i < FIGHTS; i++) {
+            // Half of the fights use game-like values, the others values that do not divide evenly
+            final boolean even = i % 2 == 0;
+            final double damage = even ? random.nextInt(100) * 0.5 : random.nextDouble() * 3;
+            final double enemyLife = even ? random.nextInt(1, 2_000) : random.nextDouble() * 500;
+            final double enemyAttack = even ? random.nextInt(4) * 0.25 : random.nextDouble();
+            closedForm.add(LIFE, damage, enemyLife, enemyAttack);
+            stepByStep.add(LIFE, damage, enemyLife, enemyAttack);
+        }
+        resolver.resolve(closedForm);
+        resolver.resolveStepByStep(stepByStep);
+        for (int i = 0; i < FIGHTS; i++) {
+            assertEquals(stepByStep.outcome(i), closedForm.outcome(i), "Wrong winner of fight " + i);
+            assertEquals(stepByStep.turns(i), closedForm.turns(i), "Wrong length of fight " + i);
+            assertEquals(stepByStep.remainingPlayerLife(i), closedForm.remainingPlayerLife(i), PRECISION);
+            assertEquals(stepByStep.remainingEnemyLife(i), closedForm.remainingEnemyLife(i), PRECISION);
+        }
+    }
+
+    @Test
+    void testFightsFollowTheGameRules() {
+        final Enemy rat = new Enemy("rat", 100.0, 1, List.of(new Pair<>("bite", 30.0)), Map.of(), "rat.png");
+        final CombatBatch batch = new CombatBatch(1);
+        final int win = batch.add(LIFE, PlayerImpl.STARTING_WEAPON, rat, 1.0);
+        // Both die on the fourth turn, but the player strikes before its death is checked
+        final int tie = batch.add(LIFE, 25, 100, 25);
+        final int loss = batch.add(LIFE, 1, 100, 50);
+        final int endless = batch.add(LIFE, 0, 100, 0);
+        resolver.resolve(batch);
+        assertEquals(CombatOutcome.PLAYER_WON, batch.outcome(win));
+        assertEquals(2, batch.turns(win));
+        assertEquals(40, batch.remainingPlayerLife(win), PRECISION, "The rat strikes before each hit of the player");
+        assertEquals(CombatOutcome.PLAYER_WON, batch.outcome(tie));
+        assertEquals(0, batch.remainingPlayerLife(tie), PRECISION);
+        assertEquals(CombatOutcome.ENEMY_WON, batch.outcome(loss));
+        assertEquals(98, batch.remainingEnemyLife(loss), PRECISION);
+        assertEquals(CombatOutcome.UNDECIDED, batch.outcome(endless));
+        assertEquals(MAX_TURNS, batch.turns(endless));
+    }
+}
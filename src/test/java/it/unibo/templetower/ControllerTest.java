@@ -1,8 +1,14 @@
 package it.unibo.templetower;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -15,6 +21,11 @@ import org.junit.jupiter.api.Test;
 
 import it.unibo.templetower.controller.GameControllerImpl;
 import it.unibo.templetower.controller.GameDataManager;
+import it.unibo.templetower.controller.GameEvent;
+import it.unibo.templetower.controller.GameEventBus;
+import it.unibo.templetower.controller.TurnResult;
+import it.unibo.templetower.model.AttackIndex;
+import it.unibo.templetower.model.CombatOutcome;
 import it.unibo.templetower.model.Enemy;
 import it.unibo.templetower.model.EnemyRoom;
 import it.unibo.templetower.model.Player;
@@ -87,6 +98,159 @@ class ControllerTest {
         assertTrue(newEnemyLife < initialEnemyLife, "The enemy should lose health after the attack");
     }
 
+    @Test
+    void testMultipliersAreIndexedByAttack() {
+        final Map<String, Double> multipliers = Map.of("fire", 0.5, "dark", 2.0);
+        final Enemy enemy = new Enemy("enemy", 10.0, 1, List.of(new Pair<>("attack", 1.0)), multipliers, "path");
+        assertEquals(multipliers, enemy.damageMultipliers(), "The multipliers should still be readable by attack id");
+        assertEquals(0.5, enemy.damageMultiplier(AttackIndex.intern("fire")));
+        assertEquals(2.0, new EnemyRoom(enemy).calculateMulti("dark"));
+        assertEquals(1.0, enemy.damageMultiplier(AttackIndex.intern("an attack interned later")),
+            "Attacks without a multiplier should deal their damage unchanged");
+        final int interned = AttackIndex.size();
+        assertEquals(1.0, new EnemyRoom(enemy).calculateMulti("an attack never declared"));
+        assertEquals(interned, AttackIndex.size(), "Looking up a multiplier should not intern its attack");
+    }
+
+    @Test
+    void testCombatExchangeDoesNotAllocate() {
+        final int exchanges = 100_000;
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final Player player = new PlayerImpl(PlayerImpl.STARTING_WEAPON, Optional.empty());
+        final EnemyRoom enemyRoom = new EnemyRoom(new Enemy("enemy", Double.MAX_VALUE, 1,
+            List.of(new Pair<>("attack", 1.0)), Map.of("phisical", 2.0), "path"));
+        final Room room = new Room(enemyRoom, "combat_view", 1);
+        room.enter(player);
+        // The first run warms up the code, so that only the exchanges are measured by the second
+        exchange(room, player, exchanges);
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        exchange(room, player, exchanges);
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        // A few bytes may be allocated by the measurement itself, but not one per exchange
+        assertTrue(allocated < exchanges, "Exchanging blows should not allocate, allocated " + allocated + " bytes");
+    }
+
+    private static void exchange(final Room room, final Player player, final int exchanges) {
+        for (int i = 0; i < exchanges; i++) {
+            room.interactWithRoom(player, 1);
+            room.interactWithRoom(player, 0);
+            if (player.getLife() <= 0) {
+                player.resetLife();
+            }
+        }
+    }
+
+    @Test
+    void testTurnsArePlayedOnTheLogicClock() {
+        final List<TurnResult> results = new ArrayList<>();
+        gameController.getEventBus().subscribe(TurnResult.class, results::add);
+        assertFalse(gameController.requestAttack(), "There is no fight before entering an enemy room");
+        enterEnemyRoom();
+        assertTrue(gameController.requestAttack());
+        assertFalse(gameController.requestAttack(), "Only one turn can be queued at a time");
+        gameController.updateTurns(0);
+        gameController.updateTurns(1);
+        assertTrue(results.isEmpty(), "No action should be played before a tick elapses");
+        gameController.updateTurns(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(List.of(TurnResult.Action.ENEMY_STRIKE, TurnResult.Action.PLAYER_STRIKE),
+            results.stream().map(TurnResult::action).toList());
+
+        // Headless, the rest of the fight is played at once
+        while (!results.get(results.size() - 1).isFinal()) {
+            assertTrue(gameController.requestAttack());
+            gameController.runPendingTurns();
+        }
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i / 2 + 1, results.get(i).turn());
+        }
+        assertFalse(gameController.requestAttack(), "A fight that is over takes no more turns");
+    }
+
+    @Test
+    void testBossIsFoughtWhenReached() {
+        final List<TurnResult> results = new ArrayList<>();
+        gameController.getEventBus().subscribe(TurnResult.class, results::add);
+        final int height = GameDataManager.getInstance().getTower().height();
+        for (int floor = 1; floor < height && !gameController.isBossTime(); floor++) {
+            gameController.goToNextFloor();
+        }
+        assertTrue(gameController.isBossTime(), "The boss should be reached at the top of the tower");
+        assertTrue(gameController.requestAttack(), "The boss should be fought without entering its room");
+        gameController.runPendingTurns();
+        assertEquals(List.of(TurnResult.Action.ENEMY_STRIKE, TurnResult.Action.PLAYER_STRIKE),
+            results.stream().map(TurnResult::action).toList());
+    }
+
+    @Test
+    void testDeathInFightIsReportedWhenTheTurnDecidesIt() {
+        final List<GameEvent> received = new ArrayList<>();
+        gameController.getEventBus().subscribe(GameEvent.class, received::add);
+        final int height = GameDataManager.getInstance().getTower().height();
+        for (int floor = 1; floor < height && !gameController.isBossTime(); floor++) {
+            gameController.goToNextFloor();
+        }
+        while (gameController.requestAttack()) {
+            gameController.runPendingTurns();
+        }
+        final List<TurnResult> results = received.stream()
+            .filter(TurnResult.class::isInstance).map(TurnResult.class::cast).toList();
+        final TurnResult last = results.get(results.size() - 1);
+        assertTrue(last.isFinal(), "The fight with the boss should be decided");
+        final List<GameEvent> deaths = received.stream().filter(GameEvent.PlayerDied.class::isInstance).toList();
+        assertEquals(last.outcome() == CombatOutcome.ENEMY_WON ? 1 : 0, deaths.size());
+        if (!deaths.isEmpty()) {
+            assertTrue(received.indexOf(deaths.get(0)) > received.indexOf(last),
+                "The death should be reported after the player's last strike");
+        }
+    }
+
+    @Test
+    void testNewGameDoesNotReportThePreviousDeath() {
+        final int maxStrikes = 1_000;
+        final List<GameEvent.PlayerDied> deaths = new ArrayList<>();
+        gameController.getEventBus().subscribe(GameEvent.PlayerDied.class, deaths::add);
+        enterEnemyRoom();
+        // The enemy strikes until the player dies, without the player ever answering
+        for (int strike = 0; strike < maxStrikes && gameController.getPlayerLife() > 0; strike++) {
+            gameController.attackEnemy();
+        }
+        assertEquals(1, deaths.size(), "The death of the player should be reported once");
+        gameController.resetGame();
+        assertTrue(gameController.getPlayerLife() > 0, "A new game should restore the life of the player");
+        assertEquals(1, deaths.size(), "A new game should not report the death of the previous one");
+    }
+
+    @Test
+    void testEventsAreCoalescedUntilDispatched() {
+        final List<Runnable> dispatches = new ArrayList<>();
+        final List<GameEvent> received = new ArrayList<>();
+        final GameEventBus bus = gameController.getEventBus();
+        bus.setDispatcher(dispatches::add);
+        bus.subscribe(GameEvent.class, received::add);
+        gameController.changeRoom(1);
+        gameController.changeRoom(1);
+        gameController.changeRoom(-2);
+        assertEquals(1, dispatches.size(), "Events published before a dispatch should be delivered together");
+        dispatches.remove(0).run();
+        assertEquals(List.of(new GameEvent.RoomSelected(0, true)), received);
+
+        gameController.changeRoom(0);
+        assertTrue(dispatches.isEmpty(), "No event should be published when the state does not change");
+    }
+
+    private void enterEnemyRoom() {
+        while (true) {
+            for (int room = 0; room < gameController.getNumberOfRooms(); room++) {
+                if (Set.of("combat_view", "boss_view").contains(gameController.getActualRoomName())) {
+                    gameController.enterRoom();
+                    return;
+                }
+                gameController.changeRoom(1);
+            }
+            gameController.goToNextFloor();
+        }
+    }
+
     @Test
     void testGoToNextFloor() {
         assertDoesNotThrow(gameController::goToNextFloor,
@@ -103,4 +267,33 @@ class ControllerTest {
             assertFalse(gameController.isBossTime(), "Boss time should still be false if not in the boss room");
         }
     }
+
+    @Test
+    void testNextFloorSpritesArePrefetched() {
+        final Set<String> prefetched = ConcurrentHashMap.newKeySet();
+        gameController.setSpritePrefetcher(prefetched::add);
+        gameController.resetGame();
+        gameController.goToNextFloor();
+        for (int room = 0; room < gameController.getNumberOfRooms(); room++) {
+            if ("combat_view".equals(gameController.getActualRoomName())) {
+                assertTrue(prefetched.contains(gameController.getEnemyPath()), "Enemy sprite should be prefetched");
+            }
+            gameController.changeRoom(1);
+        }
+    }
+
+    @Test
+    void testFailedSpritePrefetchesDoNotBringTheBossCloser() {
+        gameController.setSpritePrefetcher(path -> {
+            throw new IllegalArgumentException("Unreadable sprite " + path);
+        });
+        gameController.resetGame();
+        final int height = GameDataManager.getInstance().getTower().height();
+        int floors = 1;
+        while (!gameController.isBossTime() && floors <= height) {
+            gameController.goToNextFloor();
+            floors++;
+        }
+        assertEquals(height, floors, "The boss should wait for the top of the tower");
+    }
 }
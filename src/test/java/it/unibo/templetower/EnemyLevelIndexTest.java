@@ -0,0 +1,59 @@
+package it.unibo.templetower;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.templetower.model.Enemy;
+import it.unibo.templetower.model.EnemyLevelIndex;
+
+class EnemyLevelIndexTest {
+    private static final int PICKS = 1_000;
+    private static final int MAX_TARGET = 12;
+
+    private final SplittableRandom random = new SplittableRandom(1);
+
+    @Test
+    void testClosestLevelMatchesLinearScan() {
+        final List<Enemy> enemies = List.of(enemy("a", 7), enemy("b", 2), enemy("c", 4), enemy("d", 9), enemy("e", 4));
+        final EnemyLevelIndex index = new EnemyLevelIndex(enemies);
+        for (int level = 0; level <= MAX_TARGET; level++) {
+            final int target = level;
+            final int expected = enemies.stream().mapToInt(enemy -> Math.abs(enemy.level() - target)).min().orElseThrow();
+            final Enemy picked = index.closest(target, random);
+            assertEquals(expected, Math.abs(picked.level() - target), "Wrong level for target " + target);
+        }
+    }
+
+    @Test
+    void testTiesAreBrokenRandomly() {
+        final EnemyLevelIndex index = new EnemyLevelIndex(List.of(enemy("low", 2), enemy("same", 4), enemy("high", 6),
+            enemy("other", 4)));
+        final Set<String> sameLevel = new HashSet<>();
+        final Set<String> equidistant = new HashSet<>();
+        for (int i = 0; i < PICKS; i++) {
+            sameLevel.add(index.closest(4, random).name());
+            equidistant.add(index.closest(5, random).name());
+        }
+        assertEquals(Set.of("same", "other"), sameLevel);
+        assertEquals(Set.of("same", "other", "high"), equidistant);
+    }
+
+    @Test
+    void testEmptyIndexCannotPick() {
+        assertTrue(EnemyLevelIndex.empty().isEmpty());
+        assertThrows(IllegalStateException.class, () -> EnemyLevelIndex.empty().closest(1, random));
+    }
+
+    private static Enemy enemy(final String name, final int level) {
+        return new Enemy(name, 10.0, level, List.of(), Map.of(), "sprite.png");
+    }
+}
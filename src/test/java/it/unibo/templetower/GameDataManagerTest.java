@@ -0,0 +1,257 @@
+package it.unibo.templetower;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.templetower.controller.FloorLoadingMode;
+import it.unibo.templetower.controller.GameDataManager;
+import it.unibo.templetower.model.FloorData;
+import it.unibo.templetower.model.Room;
+import it.unibo.templetower.model.RoomWeights;
+import it.unibo.templetower.model.SpawnManager;
+import it.unibo.templetower.model.Tower;
+import it.unibo.templetower.model.TowerSnapshot;
+
+class GameDataManagerTest {
+    private static final String SOURCE_TOWER = "towerNew";
+    private static final int RELOADS = 3;
+    private static final int DARK_FLOOR_LEVEL = 12;
+
+    @TempDir
+    Path tempDir;
+    private String towerPath;
+    private final GameDataManager manager = GameDataManager.getInstance();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileUtils.copyDirectory(new File(SOURCE_TOWER), tempDir.toFile());
+        towerPath = tempDir.resolve("tower.json").toString();
+    }
+
+    @Test
+    void testReloadReplacesSnapshot() throws IOException {
+        manager.loadGameDataFromTower(towerPath);
+        final int floors = manager.getTower().floors().size();
+        touch(Path.of(towerPath));
+        manager.loadGameDataFromTower(towerPath);
+        assertEquals(floors, manager.getTower().floors().size(), "Reloading must not append floors");
+        assertEquals(floors, manager.getFloors().size());
+        assertSame(manager.getTower(), manager.getSnapshot(towerPath).orElseThrow().tower());
+    }
+
+    @Test
+    void testUnchangedTowerIsNotParsedAgain() throws IOException {
+        manager.loadGameDataFromTower(towerPath);
+        final Tower cached = manager.getTower();
+        manager.loadGameDataFromTower(towerPath);
+        assertSame(cached, manager.getTower(), "An unchanged tower should come from the cache");
+
+        // Editing any referenced file, not only tower.json, must invalidate the cached tower
+        touch(tempDir.resolve("floors").resolve("dark-lvl").resolve("weapon-data.json"));
+        manager.loadGameDataFromTower(towerPath);
+        assertNotSame(cached, manager.getTower(), "A modified tower should be reloaded");
+        assertEquals(2, manager.getSnapshot(towerPath).orElseThrow().version());
+    }
+
+    @Test
+    void testReloadsReplaceTheSnapshotOfTheirPath() throws IOException {
+        manager.loadGameDataFromTower(towerPath);
+        final int floors = manager.getTower().floors().size();
+        final int snapshots = manager.getSnapshotCount();
+        for (int i = 0; i < RELOADS; i++) {
+            final Tower previous = manager.getTower();
+            final long version = manager.getSnapshot(towerPath).orElseThrow().version();
+            touch(Path.of(towerPath));
+            manager.loadGameDataFromTower(towerPath);
+            final TowerSnapshot snapshot = manager.getSnapshot(towerPath).orElseThrow();
+            assertEquals(version + 1, snapshot.version());
+            assertNotSame(previous, snapshot.tower(), "The registry should no longer reference the old snapshot");
+            assertEquals(snapshots, manager.getSnapshotCount(), "Reloading a tower must not retain more snapshots");
+        }
+        assertEquals(floors, manager.getTower().floors().size());
+    }
+
+    @Test
+    void testCachedTowerRestoresItsDirectory(@TempDir final Path otherDir) throws IOException {
+        FileUtils.copyDirectory(new File(SOURCE_TOWER), otherDir.toFile());
+        manager.loadGameDataFromTower(towerPath);
+        manager.loadGameDataFromTower(otherDir.resolve("tower.json").toString());
+        FileUtils.deleteDirectory(otherDir.resolve("floors").toFile());
+        manager.loadGameDataFromTower(towerPath);
+        assertTrue(manager.verifyPath(tempDir.resolve("floors").resolve("floors-data.json").toString()),
+            "Floor files should be resolved against the directory of the cached tower");
+    }
+
+    @Test
+    void testParallelLoadingKeepsDeclaredOrder() throws IOException {
+        try {
+            manager.setFloorLoadingMode(FloorLoadingMode.SEQUENTIAL);
+            manager.loadGameDataFromTower(towerPath);
+            final List<FloorData> sequential = manager.getTower().floors();
+            touch(Path.of(towerPath));
+            manager.setFloorLoadingMode(FloorLoadingMode.PARALLEL);
+            manager.loadGameDataFromTower(towerPath);
+            assertEquals(sequential, manager.getTower().floors());
+        } finally {
+            manager.setFloorLoadingMode(FloorLoadingMode.PARALLEL);
+        }
+    }
+
+    @Test
+    void testParallelLoadingReportsEveryFailure() throws IOException {
+        manager.setFloorLoadingMode(FloorLoadingMode.PARALLEL);
+        Files.writeString(tempDir.resolve("floors").resolve("dark-lvl").resolve("weapon-data.json"), "[{");
+        Files.writeString(tempDir.resolve("floors").resolve("ancient-lvl").resolve("weapon-data.json"), "[{");
+        final IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> manager.loadGameDataFromTower(towerPath));
+        assertEquals(2, error.getSuppressed().length, "Both broken files should be reported");
+        assertTrue(error.getMessage().startsWith("Invalid game data path"), error.getMessage());
+    }
+
+    @Test
+    void testWrappedFilesWithUnknownPropertiesAreRead() throws IOException {
+        manager.loadGameDataFromTower(towerPath);
+        final List<FloorData> expected = manager.getTower().floors();
+        final Path enemyFile = tempDir.resolve("floors").resolve("dark-lvl").resolve("enemy-data.json");
+        final String enemies = Files.readString(enemyFile)
+            .replace("\"name\":", "\"notes\": {\"author\": [1, 2]}, \"name\":");
+        Files.writeString(enemyFile, "{\"version\": 2, \"enemies\": " + enemies + "}");
+        touch(Path.of(towerPath));
+        manager.loadGameDataFromTower(towerPath);
+        assertEquals(expected, manager.getTower().floors());
+    }
+
+    @Test
+    void testUncoveredLevelsAreRejected() throws IOException {
+        final Path towerFile = Path.of(towerPath);
+        Files.writeString(towerFile, Files.readString(towerFile).replace("\"height\": 20", "\"height\": 22"));
+        final IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> manager.loadGameDataFromTower(towerPath));
+        assertTrue(error.getMessage().contains("level 21"), error.getMessage());
+        assertTrue(error.getMessage().contains("level 22"), error.getMessage());
+    }
+
+    @Test
+    void testStaleCompiledTowerIsRejected(@TempDir final Path movedDir) throws IOException {
+        // The source tower may hold an image compiled by hand
+        Files.deleteIfExists(tempDir.resolve("tower.bin"));
+        manager.loadGameDataFromTower(towerPath);
+        assertFalse(Files.exists(tempDir.resolve("tower.bin")), "Loading should not write a compiled tower");
+        manager.compileTower(towerPath);
+
+        // Copying keeps the modification times, so only the content tells the edited file apart
+        FileUtils.copyDirectory(tempDir.toFile(), movedDir.toFile());
+        final Path floorsFile = movedDir.resolve("floors").resolve("floors-data.json");
+        final FileTime modified = Files.getLastModifiedTime(floorsFile);
+        Files.writeString(floorsFile, Files.readString(floorsFile).replace("Generic Floor", "Generic Flour"));
+        Files.setLastModifiedTime(floorsFile, modified);
+        manager.loadGameDataFromTower(movedDir.resolve("tower.json").toString());
+        final FloorData first = manager.getTower().floors().get(0);
+        assertEquals("Generic Flour", first.floorName(), "A compiled tower of other contents should be rejected");
+        assertTrue(first.spritePath().startsWith(movedDir.toAbsolutePath().toString()), first.spritePath());
+    }
+
+    @Test
+    void testOnlyTowersInTheCompiledDirectoryAreCompiledWhenLoaded() {
+        try {
+            manager.setCompiledTowersDirectory(tempDir);
+            manager.loadGameDataFromTower(towerPath);
+            assertTrue(Files.exists(tempDir.resolve("tower.bin")), "Towers of the directory should be compiled");
+        } finally {
+            manager.setCompiledTowersDirectory(null);
+        }
+    }
+
+    @Test
+    void testLazyFloorsFollowActiveBand() {
+        manager.loadGameDataFromTower(towerPath, FloorLoadingMode.LAZY);
+        final List<FloorData> floors = manager.getTower().floors();
+        assertTrue(floors.stream().noneMatch(floor -> floor.contents().isLoaded()),
+            "Lazy floors should not be held by the tower");
+
+        // Prefetching on the calling thread makes the floors of the next level load deterministically
+        final SpawnManager otherRun = new SpawnManager(manager.getTower(), Runnable::run);
+        otherRun.spawnFloor(1);
+        final SpawnManager run = new SpawnManager(manager.getTower(), Runnable::run);
+        run.spawnFloor(DARK_FLOOR_LEVEL);
+        for (final FloorData floor : floors) {
+            assertEquals(floor.covers(DARK_FLOOR_LEVEL + 1), run.isFloorLoaded(floor), floor.floorName());
+        }
+        assertTrue(floors.stream().filter(floor -> floor.covers(2)).allMatch(otherRun::isFloorLoaded),
+            "A run should not release the floors of another run");
+        assertTrue(floors.stream().allMatch(floor -> floor.enemies().isPresent()), "Released floors can be read again");
+    }
+
+    @Test
+    void testEagerLoadsDoNotReuseLazySnapshots() {
+        manager.loadGameDataFromTower(towerPath, FloorLoadingMode.LAZY);
+        manager.loadGameDataFromTower(towerPath, FloorLoadingMode.SEQUENTIAL);
+        final Tower eager = manager.getTower();
+        assertTrue(eager.floors().stream().allMatch(floor -> floor.contents().isLoaded()),
+            "An eager load should not get a lazy snapshot");
+        manager.loadGameDataFromTower(towerPath, FloorLoadingMode.LAZY);
+        assertSame(eager, manager.getTower(), "A lazy load can reuse an eager snapshot");
+    }
+
+    @Test
+    void testRoomWeightsAreReadAndCompiled(@TempDir final Path compiledDir) throws IOException {
+        final Path floorsFile = tempDir.resolve("floors").resolve("floors-data.json");
+        Files.writeString(floorsFile, Files.readString(floorsFile)
+            .replaceFirst("\"visibility\": 1.00", "\"visibility\": 1.00, \"roomWeights\": {\"trap\": 2}"));
+        final RoomWeights trapsOnly = new RoomWeights(0, 0, 0, 2);
+        manager.loadGameDataFromTower(towerPath);
+        assertEquals(trapsOnly, manager.getTower().floors().get(0).roomWeights());
+        assertEquals(RoomWeights.DEFAULT, manager.getTower().floors().get(1).roomWeights());
+
+        loadCompiledCopy(compiledDir);
+        assertEquals(trapsOnly, manager.getTower().floors().get(0).roomWeights(), "Weights should survive compilation");
+        final List<Room> rooms = new SpawnManager(manager.getTower()).spawnFloor(1).rooms();
+        assertTrue(rooms.stream().allMatch(room -> "trap_view".equals(room.getName())
+            || "stairs_view".equals(room.getName())), "Only traps should be generated");
+    }
+
+    @Test
+    void testRoomCountIsReadAndCompiled(@TempDir final Path compiledDir) throws IOException {
+        final int roomCount = 200;
+        final Path floorsFile = tempDir.resolve("floors").resolve("floors-data.json");
+        Files.writeString(floorsFile, Files.readString(floorsFile)
+            .replaceFirst("\"visibility\": 1.00", "\"visibility\": 1.00, \"roomCount\": " + roomCount));
+        manager.loadGameDataFromTower(towerPath);
+        assertEquals(roomCount, manager.getTower().floors().get(0).roomCount());
+        assertEquals(FloorData.DEFAULT_ROOM_COUNT, manager.getTower().floors().get(1).roomCount());
+
+        loadCompiledCopy(compiledDir);
+        assertEquals(roomCount, manager.getTower().floors().get(0).roomCount(), "Room count should survive compilation");
+        assertEquals(roomCount, new SpawnManager(manager.getTower()).spawnFloor(1).rooms().size());
+    }
+
+    /*
+     * Compiles the tower, then loads a copy of it, which is not cached yet and keeps a valid compiled image.
+     */
+    private void loadCompiledCopy(final Path copyDir) throws IOException {
+        manager.compileTower(towerPath);
+        FileUtils.copyDirectory(tempDir.toFile(), copyDir.toFile());
+        manager.loadGameDataFromTower(copyDir.resolve("tower.json").toString());
+    }
+
+    private static void touch(final Path file) throws IOException {
+        final long modified = Files.getLastModifiedTime(file).toMillis();
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified + 1_000));
+    }
+}
@@ -0,0 +1,50 @@
+package it.unibo.templetower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.templetower.utils.LruCache;
+
+class LruCacheTest {
+    private static final long BUDGET = 10;
+
+    @Test
+    void testLeastRecentlyUsedValuesAreEvicted() {
+        final LruCache<String, String> cache = new LruCache<>(BUDGET, String::length);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+        cache.put("c", "cccc");
+        assertNull(cache.get("b"), "The least recently used value should be evicted first");
+        assertEquals("aaaa", cache.get("a"));
+        assertEquals("cccc", cache.get("c"));
+
+        final LruCache.Stats stats = cache.stats();
+        assertEquals(3, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.evictions());
+        assertEquals(8, stats.weight());
+    }
+
+    @Test
+    void testValuesOverTheBudgetAreNotCached() {
+        final LruCache<String, String> cache = new LruCache<>(BUDGET, String::length);
+        cache.put("a", "aaaa");
+        cache.put("big", "b".repeat((int) BUDGET + 1));
+        assertNull(cache.get("big"));
+        assertEquals("aaaa", cache.get("a"), "A value that does not fit should not evict the others");
+    }
+
+    @Test
+    void testFirstCachedValueIsShared() {
+        final LruCache<String, String> cache = new LruCache<>(BUDGET, String::length);
+        final String first = "val".concat("ue");
+        assertSame(first, cache.put("key", first));
+        assertSame(first, cache.put("key", "val".concat("ue")));
+        cache.setBudget(0);
+        assertEquals(0, cache.stats().size());
+    }
+}
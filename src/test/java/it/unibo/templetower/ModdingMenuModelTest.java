@@ -0,0 +1,57 @@
+package it.unibo.templetower;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.templetower.model.ModdingMenuModel;
+
+class ModdingMenuModelTest {
+    private static final String SOURCE_TOWER = "towerNew";
+    private static final String TOWER_NAME = "sample";
+    private static final int TOWER_HEIGHT = 20;
+
+    @TempDir
+    Path tempDir;
+    private Path modsDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Path source = tempDir.resolve("source").resolve(TOWER_NAME);
+        FileUtils.copyDirectory(new File(SOURCE_TOWER), source.toFile());
+        modsDir = tempDir.resolve("mods");
+        final ModdingMenuModel model = new ModdingMenuModel(modsDir.toString());
+        assertTrue(model.importFolder(source.toFile()), "The sample tower should be imported");
+    }
+
+    @Test
+    void testHeightIsReadFromIndex() throws IOException {
+        // Breaking the floors file without touching tower.json must not be noticed: no full reload happens
+        Files.delete(modsDir.resolve(TOWER_NAME).resolve("floors").resolve("floors-data.json"));
+        final ModdingMenuModel model = new ModdingMenuModel(modsDir.toString());
+        assertTrue(model.getImportedTowers().contains(TOWER_NAME));
+        assertEquals(TOWER_HEIGHT, model.getTowerHeight(TOWER_NAME));
+    }
+
+    @Test
+    void testTowerIsReloadedWhenModified() throws IOException {
+        final ModdingMenuModel model = new ModdingMenuModel(modsDir.toString());
+        assertEquals(TOWER_HEIGHT, model.getTowerHeight(TOWER_NAME));
+        Files.delete(modsDir.resolve(TOWER_NAME).resolve("floors").resolve("floors-data.json"));
+        final Path towerJson = modsDir.resolve(TOWER_NAME).resolve("tower.json");
+        final long modified = Files.getLastModifiedTime(towerJson).toMillis();
+        Files.setLastModifiedTime(towerJson, FileTime.fromMillis(modified + 10_000));
+        assertThrows(IllegalArgumentException.class, () -> model.getTowerHeight(TOWER_NAME));
+    }
+}
@@ -0,0 +1,54 @@
+package it.unibo.templetower;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.templetower.controller.FloorLoadingMode;
+import it.unibo.templetower.controller.GameDataManager;
+import it.unibo.templetower.model.Tower;
+import it.unibo.templetower.simulation.BotPolicies;
+import it.unibo.templetower.simulation.SimulationReport;
+import it.unibo.templetower.simulation.SimulationRunner;
+
+class SimulationTest {
+    private static final String TOWER_PATH = "towerNew/tower.json";
+    private static final int GAMES = 500;
+    private static final long SEED = 7L;
+    private static final List<Double> DIFFICULTIES = List.of(0.5, 1.5);
+
+    @Test
+    void testSimulationIsReproducible() {
+        final Tower tower = loadTower();
+        final SimulationReport first = new SimulationRunner(tower, BotPolicies.explorer()).run(GAMES, DIFFICULTIES, SEED);
+        final SimulationReport second = new SimulationRunner(tower, BotPolicies.explorer()).run(GAMES, DIFFICULTIES, SEED);
+        assertEquals(first.format(), second.format(), "The same seed should give the same report on any thread count");
+    }
+
+    @Test
+    void testReportIsConsistent() {
+        final SimulationReport report = new SimulationRunner(loadTower(), BotPolicies.rusher()).run(GAMES, DIFFICULTIES, SEED);
+        assertEquals(DIFFICULTIES, List.copyOf(report.difficulties()));
+        for (final double difficulty : DIFFICULTIES) {
+            assertEquals(GAMES, report.games(difficulty));
+            final double[] survival = report.survivalCurve(difficulty);
+            assertEquals(1.0, survival[0], "Every game starts on the first floor");
+            for (int floor = 1; floor < survival.length; floor++) {
+                assertTrue(survival[floor] <= survival[floor - 1], "Survival cannot grow with the floor");
+            }
+            assertTrue(report.winRate(difficulty) <= survival[survival.length - 1]);
+        }
+        assertTrue(report.survivalCurve(1.5)[1] >= report.survivalCurve(0.5)[1], "Easier games should last longer");
+        assertFalse(report.damageByEnemy().isEmpty(), "Enemies should have been fought");
+    }
+
+    private static Tower loadTower() {
+        final GameDataManager manager = GameDataManager.getInstance();
+        manager.loadGameDataFromTower(TOWER_PATH, FloorLoadingMode.PARALLEL);
+        return manager.getTower();
+    }
+}